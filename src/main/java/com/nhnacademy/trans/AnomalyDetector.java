@@ -0,0 +1,18 @@
+package com.nhnacademy.trans;
+
+/**
+ * 시계열별 통계 상태를 기반으로 이상치를 탐지하는 온라인 탐지기 인터페이스.
+ * <p>
+ * {@link RuleEngine}의 고정 임계값으로는 잡히지 않는 드리프트나 스파이크를 탐지한다.
+ */
+public interface AnomalyDetector {
+
+    /**
+     * 값을 시계열 상태에 반영하고 이상치 여부를 반환한다.
+     *
+     * @param seriesId 시계열 ID
+     * @param value    측정값
+     * @return 이상치이면 {@code true}
+     */
+    boolean evaluate(int seriesId, double value);
+}
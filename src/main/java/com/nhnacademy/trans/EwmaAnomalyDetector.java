@@ -0,0 +1,273 @@
+package com.nhnacademy.trans;
+
+import com.nhnacademy.trans.domain.SeriesKey;
+import com.nhnacademy.trans.service.SeriesRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지수가중이동평균(EWMA) 평균/분산 기반 z-score 이상치 탐지기.
+ * <p>
+ * 시계열마다 평균, 분산, 표본 수 3개의 double 을 off-heap 버퍼에 보관하며,
+ * 값 하나당 O(1) 연산으로 상태를 갱신하고 객체를 할당하지 않는다.
+ * 평균에서 k 표준편차 이상 벗어난 값을 이상치로 판단한다.
+ * <p>
+ * 상태는 주기적으로, 그리고 종료 시 파일로 스냅샷되며 시작 시 복원되어
+ * 재시작 후 긴 워밍업이 필요 없다. 시계열 ID는 실행마다 달라지므로
+ * 스냅샷에는 토픽과 필드를 함께 기록한다.
+ * <p>
+ * {@code anomaly.enabled=true} 일 때만 활성화된다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "anomaly.enabled", havingValue = "true")
+public class EwmaAnomalyDetector implements AnomalyDetector {
+
+    /**
+     * 스냅샷 파일 식별용 매직 넘버.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x45574D41;
+
+    /**
+     * 시계열 하나가 차지하는 double 슬롯 수 (mean, variance, count).
+     */
+    private static final int SLOTS = 3;
+
+    /**
+     * 쓰기 락 스트라이프 수 (2의 거듭제곱).
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    private final SeriesRegistry seriesRegistry;
+
+    /**
+     * 평활 계수 (0 < alpha <= 1).
+     */
+    private final double alpha;
+
+    /**
+     * 이상치 판단 기준 표준편차 배수.
+     */
+    private final double k;
+
+    /**
+     * 이상치 판단을 시작하기 전 필요한 최소 표본 수.
+     */
+    private final long minSamples;
+
+    /**
+     * 스냅샷 파일 경로.
+     */
+    private final Path snapshotPath;
+
+    /**
+     * 스냅샷 주기(초). 0 이하이면 종료 시에만 저장한다.
+     */
+    private final long snapshotIntervalSeconds;
+
+    /**
+     * 시계열별 [mean, variance, count] off-heap 상태.
+     */
+    private final DoubleBuffer state;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private ScheduledExecutorService scheduler;
+
+    public EwmaAnomalyDetector(
+            SeriesRegistry seriesRegistry,
+            @Value("${anomaly.alpha:0.05}") double alpha,
+            @Value("${anomaly.k:3.0}") double k,
+            @Value("${anomaly.min-samples:30}") long minSamples,
+            @Value("${anomaly.snapshot-path:./data/anomaly-state.bin}") String snapshotPath,
+            @Value("${anomaly.snapshot-interval-seconds:60}") long snapshotIntervalSeconds) {
+        this.seriesRegistry = seriesRegistry;
+        this.alpha = alpha;
+        this.k = k;
+        this.minSamples = minSamples;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.snapshotIntervalSeconds = snapshotIntervalSeconds;
+        this.state = ByteBuffer.allocateDirect(seriesRegistry.capacity() * SLOTS * Double.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 스냅샷을 복원하고 주기적 스냅샷을 시작한다.
+     */
+    @PostConstruct
+    public void init() {
+        restore();
+        if (snapshotIntervalSeconds > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "anomaly-snapshot");
+                t.setDaemon(true);
+                return t;
+            });
+            scheduler.scheduleWithFixedDelay(this::snapshot,
+                    snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 주기적 스냅샷을 멈추고 최종 스냅샷을 저장한다.
+     * 실행 중인 주기 스냅샷이 같은 임시 파일을 쓰지 않도록 끝날 때까지 기다린 뒤 저장한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("주기 스냅샷이 끝나지 않아 최종 스냅샷을 건너뜁니다: {}", snapshotPath);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("최종 스냅샷 대기 중 인터럽트되어 건너뜁니다: {}", snapshotPath);
+                return;
+            }
+        }
+        snapshot();
+    }
+
+    /**
+     * 값을 EWMA 상태에 반영하고, 갱신 전 상태 기준으로 k 시그마를 벗어났는지 반환한다.
+     *
+     * @param seriesId 시계열 ID ({@link SeriesRegistry#NO_ID}이면 평가하지 않음)
+     * @param value    측정값
+     * @return 이상치이면 {@code true}
+     */
+    @Override
+    public boolean evaluate(int seriesId, double value) {
+        if (seriesId == SeriesRegistry.NO_ID || Double.isNaN(value)) {
+            return false;
+        }
+        int base = seriesId * SLOTS;
+        synchronized (locks[seriesId & (LOCK_STRIPES - 1)]) {
+            double count = state.get(base + 2);
+            if (count == 0) {
+                state.put(base, value);
+                state.put(base + 1, 0);
+                state.put(base + 2, 1);
+                return false;
+            }
+            double mean = state.get(base);
+            double variance = state.get(base + 1);
+            double diff = value - mean;
+            boolean anomalous = count >= minSamples
+                    && variance > 0
+                    && diff * diff > k * k * variance;
+
+            double increment = alpha * diff;
+            state.put(base, mean + increment);
+            state.put(base + 1, (1 - alpha) * (variance + diff * increment));
+            state.put(base + 2, count + 1);
+            return anomalous;
+        }
+    }
+
+    /**
+     * 현재 상태를 파일로 저장한다. 임시 파일에 쓴 뒤 교체하므로 중간에 실패해도 이전 스냅샷은 유지된다.
+     */
+    public void snapshot() {
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            int size = seriesRegistry.size();
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(size);
+                for (int id = 0; id < size; id++) {
+                    SeriesKey key = seriesRegistry.key(id);
+                    int base = id * SLOTS;
+                    double mean;
+                    double variance;
+                    double count;
+                    synchronized (locks[id & (LOCK_STRIPES - 1)]) {
+                        mean = state.get(base);
+                        variance = state.get(base + 1);
+                        count = state.get(base + 2);
+                    }
+                    out.writeBoolean(key != null && count > 0);
+                    if (key != null && count > 0) {
+                        out.writeUTF(key.getTopic());
+                        out.writeUTF(key.getField());
+                        out.writeDouble(mean);
+                        out.writeDouble(variance);
+                        out.writeDouble(count);
+                    }
+                }
+            }
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("이상치 탐지 상태 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * 스냅샷 파일이 있으면 상태를 복원한다.
+     */
+    public void restore() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                log.warn("이상치 탐지 스냅샷 형식 불일치, 무시: {}", snapshotPath);
+                return;
+            }
+            int size = in.readInt();
+            int restored = 0;
+            for (int i = 0; i < size; i++) {
+                if (!in.readBoolean()) {
+                    continue;
+                }
+                int id = seriesRegistry.intern(in.readUTF(), in.readUTF());
+                double mean = in.readDouble();
+                double variance = in.readDouble();
+                double count = in.readDouble();
+                if (id == SeriesRegistry.NO_ID) {
+                    continue;
+                }
+                int base = id * SLOTS;
+                synchronized (locks[id & (LOCK_STRIPES - 1)]) {
+                    state.put(base, mean);
+                    state.put(base + 1, variance);
+                    state.put(base + 2, count);
+                }
+                restored++;
+            }
+            log.info("이상치 탐지 상태 복원: {}개 시계열", restored);
+        } catch (IOException e) {
+            log.warn("이상치 탐지 스냅샷 복원 실패: {}", snapshotPath, e);
+        }
+    }
+}
@@ -7,4 +7,11 @@ import com.nhnacademy.trans.domain.Threshold;
  */
 public interface RuleEngine {
     boolean evaluate(String data, Threshold threshold);
-}
\ No newline at end of file
+
+    /**
+     * 숫자 값을 문자열 변환 없이 평가한다. 대량 평가(백테스트 등)에서 사용한다.
+     */
+    default boolean evaluate(double value, Threshold threshold) {
+        return evaluate(String.valueOf(value), threshold);
+    }
+}
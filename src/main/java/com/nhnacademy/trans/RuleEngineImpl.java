@@ -18,21 +18,45 @@ public class RuleEngineImpl implements RuleEngine {
      * 주어진 데이터 값과 임계값을 비교하여 임계값 초과 여부를 반환한다.
      * <ul>
      *   <li>threshold가 {@code null}이거나 임계값이 설정되지 않은 경우 항상 {@code false}를 반환</li>
-     *   <li>threshold가 존재하면 실제 비교 로직을 통해 결과를 반환 (현재 TODO)</li>
+     *   <li>데이터가 숫자가 아니면 {@code false}를 반환</li>
+     *   <li>값이 최솟값보다 작거나 최댓값보다 크면 {@code true}를 반환</li>
      * </ul>
      *
      * @param data      센서로부터 수신된 데이터 값 (문자열)
      * @param threshold 비교 기준이 되는 Threshold 객체
-     * @return 데이터 값이 임계값을 초과하면 {@code true}, 그렇지 않으면 {@code false}
+     * @return 데이터 값이 임계값을 벗어나면 {@code true}, 그렇지 않으면 {@code false}
      */
     @Override
     public boolean evaluate(String data, Threshold threshold) {
-        log.warn("RuleEngineImpl: evaluate - data={} , threshold={}", data, threshold);
+        log.debug("RuleEngineImpl: evaluate - data={} , threshold={}", data, threshold);
         if (threshold == null) {
             // 임계값 정보가 없으면 평가하지 않음
             return false;
         }
-        // TODO: 실제 threshold 비교 로직 구현
-        return false;
+        double value;
+        try {
+            value = Double.parseDouble(data);
+        } catch (NumberFormatException | NullPointerException e) {
+            return false;
+        }
+        return evaluate(value, threshold);
+    }
+
+    /**
+     * 숫자 값을 임계값 범위 [min, max] 와 비교한다. 경계값 자체는 범위 안으로 본다.
+     * 한쪽 경계만 쓰는 룰은 다른 쪽을 비워 둔다. 비운 경계로 쓸 수 있는 값은 {@code NaN}, 또는
+     * {@code min = -Infinity} / {@code max = +Infinity} 뿐이다. ({@code min = +Infinity} 나
+     * {@code max = -Infinity} 로 두면 모든 값이 범위를 벗어난다)
+     *
+     * @param value     측정값
+     * @param threshold 비교 기준이 되는 Threshold 객체
+     * @return 값이 범위를 벗어나면 {@code true}
+     */
+    @Override
+    public boolean evaluate(double value, Threshold threshold) {
+        if (threshold == null || Double.isNaN(value)) {
+            return false;
+        }
+        return value < threshold.getMin() || value > threshold.getMax();
     }
 }
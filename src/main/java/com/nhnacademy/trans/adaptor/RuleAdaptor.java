@@ -1,5 +1,6 @@
 package com.nhnacademy.trans.adaptor;
 
+import com.nhnacademy.trans.domain.CompositeRule;
 import com.nhnacademy.trans.domain.RuleCache;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -26,4 +27,12 @@ public interface RuleAdaptor {
      */
     @GetMapping("/server-data")
     ResponseEntity<List<RuleCache>> findAllServerData();
+
+    /***
+     * 복합 룰(여러 필드를 조합한 식)을 불러오는 어댑터
+     * <p>rule-api 에 이 엔드포인트가 추가되어야 한다. 없으면(404) 복합 룰 없이 동작한다.
+     * @return 회사 도메인, measurement, 식을 담은 CompositeRule 목록
+     */
+    @GetMapping("/composite-rules")
+    ResponseEntity<List<CompositeRule>> findAllCompositeRules();
 }
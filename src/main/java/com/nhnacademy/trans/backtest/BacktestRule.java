@@ -0,0 +1,36 @@
+package com.nhnacademy.trans.backtest;
+
+/**
+ * 백테스트에서 시계열에 적용하는 룰.
+ * <p>
+ * 시계열마다 {@link #forSeries(BacktestSeries)}로 평가기를 만들고, 평가기는 행 순서대로 한 번씩 호출된다.
+ * 이상치 탐지처럼 상태가 있는 룰은 평가기 안에 시계열별 상태를 둔다. 평가기는 한 스레드에서만 사용된다.
+ */
+public interface BacktestRule {
+
+    /**
+     * @return 결과에 표시할 룰 식별자
+     */
+    String id();
+
+    /**
+     * 시계열 하나에 대한 평가기를 만든다.
+     *
+     * @param series 시계열
+     * @return 평가기, 이 시계열에 적용되지 않는 룰이면 {@code null}
+     */
+    SeriesEvaluator forSeries(BacktestSeries series);
+
+    /**
+     * 시계열 하나의 행 단위 평가기.
+     */
+    @FunctionalInterface
+    interface SeriesEvaluator {
+
+        /**
+         * @param row 행 번호 (0 부터 오름차순으로 호출됨)
+         * @return 이 행에서 알림이 발생하면 {@code true}
+         */
+        boolean test(int row);
+    }
+}
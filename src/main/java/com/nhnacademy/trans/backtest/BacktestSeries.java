@@ -0,0 +1,170 @@
+package com.nhnacademy.trans.backtest;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 백테스트 대상 시계열 하나(장치 하나의 measurement 하나)의 열 지향 데이터.
+ * <p>
+ * 행은 시각 순으로 정렬되어 있고, 같은 시각의 필드 값은 한 행에 모인다.
+ * 값은 필드별 double 배열에 보관하며 해당 시각에 값이 없으면 {@code NaN} 이다.
+ * 포인트 수백만 개도 객체 할당 없이 배열 순회로 평가할 수 있도록 하기 위함이다.
+ */
+@Getter
+public class BacktestSeries {
+
+    /**
+     * 시계열 태그 (companyDomain, deviceId, measurement 등).
+     */
+    private final Map<String, String> tags;
+
+    /**
+     * 열 번호 → 필드 이름.
+     */
+    private final String[] fields;
+
+    /**
+     * 행별 시각(ms), 오름차순.
+     */
+    private final long[] times;
+
+    /**
+     * [열][행] 값.
+     */
+    private final double[][] values;
+
+    BacktestSeries(Map<String, String> tags, String[] fields, long[] times, double[][] values) {
+        this.tags = tags;
+        this.fields = fields;
+        this.times = times;
+        this.values = values;
+    }
+
+    /**
+     * @return 행 수
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * @return measurement 태그
+     */
+    public String getMeasurement() {
+        return tags.get("measurement");
+    }
+
+    /**
+     * 필드 이름의 열 번호를 찾는다.
+     *
+     * @param field 필드 이름
+     * @return 열 번호, 없으면 -1
+     */
+    public int column(String field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * (시각, 필드, 값) 을 순서에 상관없이 받아 {@link BacktestSeries}를 만드는 빌더.
+     * 입력이 이미 시각 순이면 정렬을 건너뛴다.
+     */
+    public static final class Builder {
+        private final Map<String, String> tags;
+        private final List<String> fields = new ArrayList<>();
+        private long[] times = new long[64];
+        private int[] columns = new int[64];
+        private double[] values = new double[64];
+        private int size;
+        private boolean sorted = true;
+
+        public Builder(Map<String, String> tags) {
+            this.tags = tags;
+        }
+
+        /**
+         * 값 하나를 추가한다.
+         *
+         * @param time  시각(ms)
+         * @param field 필드 이름
+         * @param value 값
+         * @return this
+         */
+        public Builder add(long time, String field, double value) {
+            int column = fields.indexOf(field);
+            if (column < 0) {
+                fields.add(field);
+                column = fields.size() - 1;
+            }
+            if (size == times.length) {
+                int capacity = size * 2;
+                times = Arrays.copyOf(times, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            if (size > 0 && time < times[size - 1]) {
+                sorted = false;
+            }
+            times[size] = time;
+            columns[size] = column;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * @return 추가된 값 수
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 같은 시각의 값을 한 행으로 모아 시계열을 만든다.
+         *
+         * @return 시계열
+         */
+        public BacktestSeries build() {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            if (!sorted) {
+                order = Arrays.stream(order).boxed()
+                        .sorted((a, b) -> Long.compare(times[a], times[b]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+
+            int rows = 0;
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || times[order[i]] != times[order[i - 1]]) {
+                    rows++;
+                }
+            }
+            long[] rowTimes = new long[rows];
+            double[][] columnValues = new double[fields.size()][rows];
+            for (double[] column : columnValues) {
+                Arrays.fill(column, Double.NaN);
+            }
+            int row = -1;
+            for (int i = 0; i < size; i++) {
+                int index = order[i];
+                if (i == 0 || times[index] != times[order[i - 1]]) {
+                    row++;
+                    rowTimes[row] = times[index];
+                }
+                columnValues[columns[index]][row] = values[index];
+            }
+            return new BacktestSeries(tags, fields.toArray(String[]::new), rowTimes, columnValues);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.nhnacademy.trans.backtest;
+
+import com.nhnacademy.trans.RuleEngine;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.domain.BacktestReport;
+import com.nhnacademy.trans.domain.BacktestRequest;
+import com.nhnacademy.trans.domain.BacktestRuleResult;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Threshold;
+import com.nhnacademy.trans.rule.CompiledRule;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import com.nhnacademy.trans.rule.RuleExpressionCompiler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 과거 데이터에 룰을 적용해 알림이 몇 번, 언제 발생했을지 계산하는 백테스트 서비스.
+ * <ol>
+ *   <li>{@link BacktestSource}에서 테넌트·기간의 시계열을 열 지향 배열로 읽는다.</li>
+ *   <li>요청의 후보 임계값·복합 룰과, 선택 시 현재 적용 중인 룰·EWMA 이상치 룰을 준비한다.</li>
+ *   <li>{@link BacktestTask}로 시계열을 나누어 전용 {@link ForkJoinPool}에서 병렬 평가하고 부분 결과를 합친다.</li>
+ * </ol>
+ * 평가는 시계열 배열 순회와 람다 호출뿐이므로 수백만 포인트도 수 초~수 분 안에 끝난다.
+ */
+@Service
+@Slf4j
+public class BacktestService {
+
+    /**
+     * 타임라인 최대 구간 수. 넘으면 구간 길이를 늘린다.
+     */
+    static final int MAX_TIMELINE_BUCKETS = 2000;
+
+    private final BacktestSource source;
+    private final RuleEngine ruleEngine;
+    private final RuleCacheService ruleCacheService;
+    private final CompositeRuleService compositeRuleService;
+    private final double anomalyAlpha;
+    private final double anomalyK;
+    private final long anomalyMinSamples;
+    private final ForkJoinPool pool;
+
+    public BacktestService(
+            BacktestSource source,
+            RuleEngine ruleEngine,
+            RuleCacheService ruleCacheService,
+            CompositeRuleService compositeRuleService,
+            @Value("${anomaly.alpha:0.05}") double anomalyAlpha,
+            @Value("${anomaly.k:3.0}") double anomalyK,
+            @Value("${anomaly.min-samples:30}") long anomalyMinSamples,
+            @Value("${backtest.parallelism:0}") int parallelism) {
+        this.source = source;
+        this.ruleEngine = ruleEngine;
+        this.ruleCacheService = ruleCacheService;
+        this.compositeRuleService = compositeRuleService;
+        this.anomalyAlpha = anomalyAlpha;
+        this.anomalyK = anomalyK;
+        this.anomalyMinSamples = anomalyMinSamples;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 백테스트를 실행한다.
+     *
+     * @param request 백테스트 요청
+     * @return 룰별 알림 수와 타임라인
+     * @throws IOException              과거 데이터를 읽지 못한 경우
+     * @throws IllegalArgumentException 요청이 잘못되었거나 복합 룰 식에 문법 오류가 있는 경우
+     */
+    public BacktestReport run(BacktestRequest request) throws IOException {
+        validate(request);
+        long begin = System.currentTimeMillis();
+        Map<BacktestSeries, Threshold> currentThresholds = new IdentityHashMap<>();
+        List<BacktestRule> rules = rules(request, currentThresholds);
+
+        List<BacktestSeries> series = new ArrayList<>();
+        source.read(request, series::add);
+        if (request.isCurrentThresholds()) {
+            // 풀 안에서 룰 캐시를 조회하지 않도록 포크 전에 시계열별 현재 임계값을 풀어 둔다.
+            resolveCurrentThresholds(series, currentThresholds);
+        }
+
+        long[] offsets = new long[series.size() + 1];
+        for (int i = 0; i < series.size(); i++) {
+            offsets[i + 1] = offsets[i] + series.get(i).size();
+        }
+
+        long start = request.getStart().toEpochMilli();
+        long span = Math.max(1, request.getStop().toEpochMilli() - start);
+        long timelineMillis = Math.max(request.getTimelineSeconds() * 1000,
+                (span + MAX_TIMELINE_BUCKETS - 1) / MAX_TIMELINE_BUCKETS);
+        int buckets = (int) ((span + timelineMillis - 1) / timelineMillis);
+
+        BacktestTask.Result result = pool.invoke(
+                new BacktestTask(series, offsets, rules, start, timelineMillis, buckets, 0, series.size()));
+
+        List<BacktestRuleResult> ruleResults = new ArrayList<>(rules.size());
+        for (int r = 0; r < rules.size(); r++) {
+            boolean triggered = result.triggers[r] > 0;
+            ruleResults.add(new BacktestRuleResult(
+                    rules.get(r).id(),
+                    result.triggers[r],
+                    result.triggeredSeries[r],
+                    triggered ? result.firstTrigger[r] : 0,
+                    triggered ? result.lastTrigger[r] : 0,
+                    result.timeline[r]));
+        }
+        BacktestReport report = new BacktestReport(request.getCompanyDomain(), request.getStart(), request.getStop(),
+                result.series, result.points, timelineMillis, System.currentTimeMillis() - begin, ruleResults);
+        log.info("백테스트 완료: companyDomain={}, series={}, points={}, rules={}, elapsed={}ms",
+                report.getCompanyDomain(), report.getSeries(), report.getPoints(), rules.size(), report.getElapsedMillis());
+        return report;
+    }
+
+    private void validate(BacktestRequest request) {
+        if (request.getCompanyDomain() == null || request.getCompanyDomain().isBlank()) {
+            throw new IllegalArgumentException("companyDomain 이 필요합니다");
+        }
+        if (request.getStart() == null || request.getStop() == null || !request.getStart().isBefore(request.getStop())) {
+            throw new IllegalArgumentException("start 는 stop 보다 앞서야 합니다");
+        }
+        if (request.getTimelineSeconds() <= 0) {
+            throw new IllegalArgumentException("timelineSeconds 는 0보다 커야 합니다");
+        }
+    }
+
+    /**
+     * 실시간 수집과 같은 키로 시계열별 현재 임계값을 조회한다. 같은 장치·measurement 는 한 번만 조회한다.
+     */
+    private void resolveCurrentThresholds(List<BacktestSeries> series, Map<BacktestSeries, Threshold> target) {
+        Map<String, Optional<Threshold>> byKey = new HashMap<>();
+        for (BacktestSeries s : series) {
+            String companyDomain = s.getTags().get("companyDomain");
+            String deviceId = s.getTags().getOrDefault("deviceId", "UNKNOWN");
+            String key = companyDomain + ":" + deviceId + ":" + s.getMeasurement();
+            byKey.computeIfAbsent(key, k -> ruleCacheService.getThreshold(s.getMeasurement(), companyDomain, deviceId))
+                    .ifPresent(threshold -> target.put(s, threshold));
+        }
+    }
+
+    /**
+     * 요청에 따라 평가할 룰 목록을 만든다.
+     *
+     * @param currentThresholds 현재 적용 중인 임계값 (시계열을 읽은 뒤 포크 전에 채워진다)
+     */
+    private List<BacktestRule> rules(BacktestRequest request, Map<BacktestSeries, Threshold> currentThresholds) {
+        List<BacktestRule> rules = new ArrayList<>();
+        for (Map.Entry<String, Threshold> entry : request.getThresholds().entrySet()) {
+            String measurement = entry.getKey();
+            Threshold threshold = entry.getValue();
+            rules.add(new ThresholdBacktestRule("threshold:" + measurement, ruleEngine,
+                    series -> measurement.equals(series.getMeasurement()) ? threshold : null));
+        }
+        if (request.isCurrentThresholds()) {
+            rules.add(new ThresholdBacktestRule("threshold:current", ruleEngine, currentThresholds::get));
+        }
+        for (CompositeRule compositeRule : request.getCompositeRules()) {
+            if (compositeRule.getCompanyDomain() == null) {
+                compositeRule.setCompanyDomain(request.getCompanyDomain());
+            }
+            if (compositeRule.getMeasurement() == null) {
+                throw new IllegalArgumentException("복합 룰 measurement 가 필요합니다: " + compositeRule.getId());
+            }
+            rules.add(new CompositeBacktestRule(RuleExpressionCompiler.compile(compositeRule)));
+        }
+        if (request.isCurrentCompositeRules()) {
+            for (CompiledRule compiledRule : compositeRuleService.compiledRules()) {
+                if (request.getCompanyDomain().equals(compiledRule.getRule().getCompanyDomain())) {
+                    rules.add(new CompositeBacktestRule(compiledRule));
+                }
+            }
+        }
+        if (request.isAnomaly()) {
+            rules.add(new EwmaBacktestRule(anomalyAlpha, anomalyK, anomalyMinSamples));
+        }
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("평가할 룰이 없습니다");
+        }
+        return rules;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nhnacademy.trans.backtest;
+
+import com.nhnacademy.trans.domain.BacktestRequest;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * 백테스트용 과거 데이터 공급원.
+ */
+public interface BacktestSource {
+
+    /**
+     * 요청한 테넌트·기간·measurement 의 시계열을 하나씩 전달한다.
+     * 같은 시계열은 한 번만 전달해야 한다.
+     *
+     * @param request  백테스트 요청
+     * @param consumer 시계열 수신자
+     * @throws IOException 데이터를 읽지 못한 경우
+     */
+    void read(BacktestRequest request, Consumer<BacktestSeries> consumer) throws IOException;
+}
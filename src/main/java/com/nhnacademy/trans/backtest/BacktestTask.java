@@ -0,0 +1,157 @@
+package com.nhnacademy.trans.backtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 시계열 목록을 포인트 수 기준으로 반씩 나누어 병렬 평가하는 fork-join 작업.
+ * <p>
+ * 시계열 하나는 상태가 있는 룰 때문에 한 스레드에서 순서대로 평가하고,
+ * 구간의 포인트 수가 {@link #SEQUENTIAL_POINTS} 이하이거나 시계열이 하나뿐이면 더 나누지 않는다.
+ * 시계열 길이가 고르지 않아도 포인트 누적합의 중간 지점에서 나누므로 작업량이 균등해진다.
+ */
+class BacktestTask extends RecursiveTask<BacktestTask.Result> {
+
+    /**
+     * 더 나누지 않고 직접 평가할 최대 포인트 수.
+     */
+    static final long SEQUENTIAL_POINTS = 50_000;
+
+    private final List<BacktestSeries> series;
+
+    /**
+     * series[i] 앞까지의 행 수 누적합. 길이는 series.size() + 1.
+     */
+    private final long[] offsets;
+
+    private final List<BacktestRule> rules;
+    private final long timelineStart;
+    private final long timelineMillis;
+    private final int timelineBuckets;
+    private final int from;
+    private final int to;
+
+    BacktestTask(List<BacktestSeries> series, long[] offsets, List<BacktestRule> rules,
+                 long timelineStart, long timelineMillis, int timelineBuckets, int from, int to) {
+        this.series = series;
+        this.offsets = offsets;
+        this.rules = rules;
+        this.timelineStart = timelineStart;
+        this.timelineMillis = timelineMillis;
+        this.timelineBuckets = timelineBuckets;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Result compute() {
+        if (to - from <= 1 || offsets[to] - offsets[from] <= SEQUENTIAL_POINTS) {
+            Result result = new Result(rules.size(), timelineBuckets);
+            for (int i = from; i < to; i++) {
+                evaluate(series.get(i), result);
+            }
+            return result;
+        }
+        int mid = split();
+        BacktestTask left = new BacktestTask(series, offsets, rules, timelineStart, timelineMillis, timelineBuckets, from, mid);
+        BacktestTask right = new BacktestTask(series, offsets, rules, timelineStart, timelineMillis, timelineBuckets, mid, to);
+        left.fork();
+        Result result = right.compute();
+        result.merge(left.join());
+        return result;
+    }
+
+    /**
+     * 포인트 누적합의 중간에 해당하는 분할 위치 (from &lt; mid &lt; to).
+     */
+    private int split() {
+        long half = (offsets[from] + offsets[to]) / 2;
+        int index = Arrays.binarySearch(offsets, from, to + 1, half);
+        int mid = index >= 0 ? index : -index - 1;
+        return Math.min(Math.max(mid, from + 1), to - 1);
+    }
+
+    private void evaluate(BacktestSeries s, Result result) {
+        BacktestRule.SeriesEvaluator[] evaluators = new BacktestRule.SeriesEvaluator[rules.size()];
+        boolean any = false;
+        for (int r = 0; r < evaluators.length; r++) {
+            evaluators[r] = rules.get(r).forSeries(s);
+            any |= evaluators[r] != null;
+        }
+        result.series++;
+        result.points += s.size();
+        if (!any) {
+            return;
+        }
+
+        long[] times = s.getTimes();
+        boolean[] triggeredSeries = new boolean[evaluators.length];
+        for (int row = 0; row < times.length; row++) {
+            for (int r = 0; r < evaluators.length; r++) {
+                if (evaluators[r] != null && evaluators[r].test(row)) {
+                    result.record(r, times[row], bucket(times[row]));
+                    triggeredSeries[r] = true;
+                }
+            }
+        }
+        for (int r = 0; r < triggeredSeries.length; r++) {
+            if (triggeredSeries[r]) {
+                result.triggeredSeries[r]++;
+            }
+        }
+    }
+
+    private int bucket(long time) {
+        long bucket = (time - timelineStart) / timelineMillis;
+        return (int) Math.min(Math.max(bucket, 0), timelineBuckets - 1);
+    }
+
+    /**
+     * 부분 결과. 룰 순서대로 배열에 누적하며 병합은 더하기(최소/최대)로 끝난다.
+     */
+    static final class Result {
+        long series;
+        long points;
+        final long[] triggers;
+        final long[] triggeredSeries;
+        final long[] firstTrigger;
+        final long[] lastTrigger;
+        final long[][] timeline;
+
+        Result(int rules, int timelineBuckets) {
+            triggers = new long[rules];
+            triggeredSeries = new long[rules];
+            firstTrigger = new long[rules];
+            lastTrigger = new long[rules];
+            timeline = new long[rules][timelineBuckets];
+            Arrays.fill(firstTrigger, Long.MAX_VALUE);
+            Arrays.fill(lastTrigger, Long.MIN_VALUE);
+        }
+
+        void record(int rule, long time, int bucket) {
+            triggers[rule]++;
+            timeline[rule][bucket]++;
+            if (time < firstTrigger[rule]) {
+                firstTrigger[rule] = time;
+            }
+            if (time > lastTrigger[rule]) {
+                lastTrigger[rule] = time;
+            }
+        }
+
+        void merge(Result other) {
+            series += other.series;
+            points += other.points;
+            for (int r = 0; r < triggers.length; r++) {
+                triggers[r] += other.triggers[r];
+                triggeredSeries[r] += other.triggeredSeries[r];
+                firstTrigger[r] = Math.min(firstTrigger[r], other.firstTrigger[r]);
+                lastTrigger[r] = Math.max(lastTrigger[r], other.lastTrigger[r]);
+                for (int b = 0; b < timeline[r].length; b++) {
+                    timeline[r][b] += other.timeline[r][b];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.trans.backtest;
+
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.rule.CompiledRule;
+
+/**
+ * 복합 룰. 식의 필드를 시계열 열 번호에 미리 연결해 두고 행마다 슬롯을 채워 평가한다.
+ */
+public class CompositeBacktestRule implements BacktestRule {
+
+    private final CompiledRule compiledRule;
+
+    public CompositeBacktestRule(CompiledRule compiledRule) {
+        this.compiledRule = compiledRule;
+    }
+
+    @Override
+    public String id() {
+        return "composite:" + compiledRule.getRule().getId();
+    }
+
+    @Override
+    public SeriesEvaluator forSeries(BacktestSeries series) {
+        CompositeRule rule = compiledRule.getRule();
+        if (!rule.getCompanyDomain().equals(series.getTags().get("companyDomain"))
+                || !rule.getMeasurement().equals(series.getMeasurement())
+                || (rule.getDeviceId() != null && !rule.getDeviceId().equals(series.getTags().get("deviceId")))) {
+            return null;
+        }
+        String[] fields = compiledRule.getFields();
+        double[][] columns = new double[fields.length][];
+        for (int slot = 0; slot < fields.length; slot++) {
+            int column = series.column(fields[slot]);
+            if (column < 0) {
+                return null;
+            }
+            columns[slot] = series.getValues()[column];
+        }
+        double[] slots = new double[fields.length];
+        return row -> {
+            for (int slot = 0; slot < slots.length; slot++) {
+                double value = columns[slot][row];
+                if (Double.isNaN(value)) {
+                    return false;
+                }
+                slots[slot] = value;
+            }
+            return compiledRule.test(slots);
+        };
+    }
+}
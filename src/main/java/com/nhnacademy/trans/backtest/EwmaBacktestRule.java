@@ -0,0 +1,60 @@
+package com.nhnacademy.trans.backtest;
+
+/**
+ * EWMA z-score 이상치 룰. {@code EwmaAnomalyDetector}와 같은 갱신식을 쓰되,
+ * 상태를 시계열마다 새로 만들어 과거 데이터만으로 학습하며 평가한다.
+ * 행의 필드 중 하나라도 이상치이면 알림으로 센다.
+ */
+public class EwmaBacktestRule implements BacktestRule {
+
+    private final double alpha;
+    private final double k;
+    private final long minSamples;
+
+    public EwmaBacktestRule(double alpha, double k, long minSamples) {
+        this.alpha = alpha;
+        this.k = k;
+        this.minSamples = minSamples;
+    }
+
+    @Override
+    public String id() {
+        return "anomaly:ewma";
+    }
+
+    @Override
+    public SeriesEvaluator forSeries(BacktestSeries series) {
+        double[][] values = series.getValues();
+        // 필드별 [mean, variance, count]
+        double[] state = new double[values.length * 3];
+        return row -> {
+            boolean anomalous = false;
+            for (int column = 0; column < values.length; column++) {
+                double value = values[column][row];
+                if (!Double.isNaN(value) && update(state, column * 3, value)) {
+                    anomalous = true;
+                }
+            }
+            return anomalous;
+        };
+    }
+
+    private boolean update(double[] state, int base, double value) {
+        double count = state[base + 2];
+        if (count == 0) {
+            state[base] = value;
+            state[base + 2] = 1;
+            return false;
+        }
+        double mean = state[base];
+        double variance = state[base + 1];
+        double diff = value - mean;
+        boolean anomalous = count >= minSamples && variance > 0 && diff * diff > k * k * variance;
+
+        double increment = alpha * diff;
+        state[base] = mean + increment;
+        state[base + 1] = (1 - alpha) * (variance + diff * increment);
+        state[base + 2] = count + 1;
+        return anomalous;
+    }
+}
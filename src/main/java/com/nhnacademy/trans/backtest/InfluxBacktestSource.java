@@ -0,0 +1,172 @@
+package com.nhnacademy.trans.backtest;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.query.FluxRecord;
+import com.nhnacademy.trans.config.InfluxRoutingProperties;
+import com.nhnacademy.trans.config.InfluxRoutingProperties.Route;
+import com.nhnacademy.trans.domain.BacktestRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * InfluxDB 에서 과거 시계열을 스트리밍으로 읽는 백테스트 공급원.
+ * <p>
+ * 테넌트의 버킷은 {@link InfluxRoutingProperties} 라우트로 찾으며(일치하는 라우트가 없으면 기본 버킷),
+ * Flux {@code pivot} 으로 같은 시각의 필드를 한 행으로 모아 받는다. 결과 테이블 하나가 시계열 하나이므로
+ * 테이블이 바뀔 때마다 시계열을 완성해 넘기고, 전체 결과를 메모리에 올리지 않는다.
+ * <p>
+ * {@code backtest.source=influx}(기본값) 일 때 사용된다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "backtest.source", havingValue = "influx", matchIfMissing = true)
+public class InfluxBacktestSource implements BacktestSource {
+
+    private final InfluxDBClient influxDBClient;
+    private final InfluxRoutingProperties routing;
+    private final String defaultBucket;
+    private final String defaultOrg;
+
+    public InfluxBacktestSource(
+            InfluxDBClient influxDBClient,
+            InfluxRoutingProperties routing,
+            @Value("${influx.bucket}") String bucket,
+            @Value("${influx.org}") String org) {
+        this.influxDBClient = influxDBClient;
+        this.routing = routing;
+        this.defaultBucket = bucket;
+        this.defaultOrg = org;
+    }
+
+    @Override
+    public void read(BacktestRequest request, Consumer<BacktestSeries> consumer) throws IOException {
+        for (Map.Entry<String, String> target : buckets(request.getCompanyDomain()).entrySet()) {
+            query(target.getKey(), target.getValue(), flux(target.getKey(), request), consumer);
+        }
+    }
+
+    /**
+     * 테넌트 데이터가 저장될 수 있는 버킷 → 조직 목록. origin 별로 다른 버킷일 수 있으므로 모두 조회한다.
+     */
+    private Map<String, String> buckets(String companyDomain) {
+        Map<String, String> buckets = new HashMap<>();
+        for (Route route : routing.getRoutes()) {
+            if (route.matches(companyDomain, route.getOrigin())) {
+                String org = route.getOrg() == null || route.getOrg().isBlank() ? defaultOrg : route.getOrg();
+                buckets.putIfAbsent(route.getBucket(), org);
+            }
+        }
+        if (buckets.isEmpty()) {
+            buckets.put(defaultBucket, defaultOrg);
+        }
+        return buckets;
+    }
+
+    private String flux(String bucket, BacktestRequest request) {
+        StringBuilder flux = new StringBuilder()
+                .append("from(bucket: \"").append(escape(bucket)).append("\")\n")
+                .append("  |> range(start: ").append(request.getStart()).append(", stop: ").append(request.getStop()).append(")\n")
+                .append("  |> filter(fn: (r) => r.companyDomain == \"").append(escape(request.getCompanyDomain())).append("\")\n");
+        if (request.getMeasurement() != null && !request.getMeasurement().isBlank()) {
+            flux.append("  |> filter(fn: (r) => r._measurement == \"").append(escape(request.getMeasurement())).append("\")\n");
+        }
+        return flux.append("  |> pivot(rowKey: [\"_time\"], columnKey: [\"_field\"], valueColumn: \"_value\")")
+                .toString();
+    }
+
+    private void query(String bucket, String org, String flux, Consumer<BacktestSeries> consumer) throws IOException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        // 콜백은 클라이언트의 단일 스레드에서 순서대로 호출된다.
+        TableReader reader = new TableReader(consumer);
+
+        influxDBClient.getQueryApi().query(flux, org,
+                (cancellable, record) -> reader.accept(record),
+                throwable -> {
+                    failure.set(throwable);
+                    done.countDown();
+                },
+                done::countDown);
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("백테스트 조회 중 인터럽트: " + bucket);
+        }
+        if (failure.get() != null) {
+            throw new IOException("백테스트 조회 실패: " + bucket, failure.get());
+        }
+        reader.finish();
+        log.info("백테스트 조회 완료: bucket={}, series={}", bucket, reader.series);
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * pivot 결과 레코드를 테이블 단위로 모아 시계열로 변환한다.
+     * 문자열 열은 태그, 숫자 열은 필드로 본다.
+     */
+    private static final class TableReader {
+        private static final Set<String> SYSTEM_COLUMNS = Set.of("result", "table", "_start", "_stop", "_time");
+
+        private final Consumer<BacktestSeries> consumer;
+        private BacktestSeries.Builder builder;
+        private Integer table;
+        private long series;
+
+        private TableReader(Consumer<BacktestSeries> consumer) {
+            this.consumer = consumer;
+        }
+
+        private void accept(FluxRecord record) {
+            if (builder == null || !record.getTable().equals(table)) {
+                finish();
+                table = record.getTable();
+                builder = new BacktestSeries.Builder(tags(record));
+            }
+            if (record.getTime() == null) {
+                return;
+            }
+            long time = record.getTime().toEpochMilli();
+            for (Map.Entry<String, Object> column : record.getValues().entrySet()) {
+                if (column.getValue() instanceof Number number && !SYSTEM_COLUMNS.contains(column.getKey())) {
+                    builder.add(time, column.getKey(), number.doubleValue());
+                }
+            }
+        }
+
+        private Map<String, String> tags(FluxRecord record) {
+            Map<String, String> tags = new HashMap<>();
+            record.getValues().forEach((key, value) -> {
+                if (value instanceof String text && !key.startsWith("_") && !SYSTEM_COLUMNS.contains(key)) {
+                    tags.put(key, text);
+                }
+            });
+            if (record.getMeasurement() != null) {
+                tags.putIfAbsent("measurement", record.getMeasurement());
+            }
+            return Map.copyOf(tags);
+        }
+
+        private void finish() {
+            if (builder != null && builder.size() > 0) {
+                consumer.accept(builder.build());
+                series++;
+            }
+            builder = null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.nhnacademy.trans.backtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nhnacademy.trans.domain.BacktestRequest;
+import com.nhnacademy.trans.domain.Reading;
+import com.nhnacademy.trans.service.ReadingParser;
+import com.nhnacademy.trans.service.SeriesRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * NDJSON 파일 내보내기(또는 {@code NdjsonFileSink} 아카이브)에서 과거 시계열을 읽는 백테스트 공급원.
+ * <p>
+ * 각 줄은 백필과 같은 {"topic":"...","payload":...} 형식이며 {@code .ndjson.gz} 도 읽는다.
+ * 경로가 디렉터리이면 그 안의 파일을 이름 순으로 모두 읽는다. 토픽별로 모은 뒤 끝에서 시계열로 넘긴다.
+ * 'time' 이 없는 레코드는 과거 시각을 알 수 없으므로 건너뛴다.
+ * 실시간 수집의 {@link SeriesRegistry}를 채우지 않도록 읽을 때마다 임시 레지스트리로 파싱한다.
+ * <p>
+ * {@code backtest.source=file} 일 때 사용된다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "backtest.source", havingValue = "file")
+public class NdjsonBacktestSource implements BacktestSource {
+
+    /**
+     * NDJSON 파일 또는 디렉터리.
+     */
+    private final Path path;
+
+    /**
+     * 한 번 읽을 때 임시 레지스트리에 ID 를 부여할 최대 시계열 수. 넘어도 태그 파싱은 계속된다.
+     */
+    private final int maxSeries;
+
+    private final ObjectReader lineReader = new ObjectMapper().readerFor(JsonNode.class);
+
+    public NdjsonBacktestSource(
+            @Value("${backtest.file.path:./data/archive}") String path,
+            @Value("${backtest.file.max-series:100000}") int maxSeries) {
+        this.path = Path.of(path);
+        this.maxSeries = maxSeries;
+    }
+
+    @Override
+    public void read(BacktestRequest request, Consumer<BacktestSeries> consumer) throws IOException {
+        ReadingParser readingParser = new ReadingParser(new SeriesRegistry(maxSeries));
+        Map<String, BacktestSeries.Builder> builders = new HashMap<>();
+        for (Path file : files()) {
+            try (InputStream in = open(file);
+                 MappingIterator<JsonNode> it = lineReader.readValues(in)) {
+                while (it.hasNextValue()) {
+                    for (Reading reading : parseLine(readingParser, it.nextValue())) {
+                        if (accepts(request, reading)) {
+                            builders.computeIfAbsent(reading.getTopic(),
+                                            topic -> new BacktestSeries.Builder(reading.getTags()))
+                                    .add(reading.getTime(), reading.getField(), reading.getValue());
+                        }
+                    }
+                }
+            }
+        }
+        log.info("백테스트 파일 읽기 완료: path={}, series={}", path, builders.size());
+        builders.values().forEach(builder -> consumer.accept(builder.build()));
+    }
+
+    private List<Path> files() throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> stream = Files.list(path)) {
+            return stream
+                    .filter(file -> file.getFileName().toString().endsWith(".ndjson")
+                            || file.getFileName().toString().endsWith(".ndjson.gz"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private InputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        return file.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private List<Reading> parseLine(ReadingParser readingParser, JsonNode line) {
+        JsonNode topicNode = line.get("topic");
+        String topic = topicNode != null && topicNode.isTextual() ? topicNode.textValue() : null;
+        JsonNode payload = line.path("payload");
+        if (topic == null || topic.isBlank() || payload.isMissingNode() || payload.isNull()) {
+            return List.of();
+        }
+        try {
+            JsonNode root = payload.isTextual() ? lineReader.readTree(payload.textValue()) : payload;
+            if (root == null || !root.isObject() || !root.path("time").isNumber()) {
+                return List.of();
+            }
+            return readingParser.parse(topic, root);
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static boolean accepts(BacktestRequest request, Reading reading) {
+        if (!request.getCompanyDomain().equals(reading.getTags().get("companyDomain"))) {
+            return false;
+        }
+        if (request.getMeasurement() != null && !request.getMeasurement().equals(reading.getMeasurement())) {
+            return false;
+        }
+        long time = reading.getTime();
+        return time >= request.getStart().toEpochMilli() && time < request.getStop().toEpochMilli();
+    }
+}
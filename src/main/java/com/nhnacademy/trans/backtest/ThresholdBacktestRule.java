@@ -0,0 +1,49 @@
+package com.nhnacademy.trans.backtest;
+
+import com.nhnacademy.trans.RuleEngine;
+import com.nhnacademy.trans.domain.Threshold;
+
+import java.util.function.Function;
+
+/**
+ * 임계값 룰. 실시간 수집({@code MqttIngestionService})과 같이 시계열의 임계값 하나로 행의 모든 필드 값을
+ * {@link RuleEngine}으로 평가하며, 한 필드라도 벗어나면 알림으로 센다.
+ */
+public class ThresholdBacktestRule implements BacktestRule {
+
+    private final String id;
+    private final RuleEngine ruleEngine;
+
+    /**
+     * 시계열 → 적용할 임계값 (없으면 null).
+     */
+    private final Function<BacktestSeries, Threshold> thresholds;
+
+    public ThresholdBacktestRule(String id, RuleEngine ruleEngine, Function<BacktestSeries, Threshold> thresholds) {
+        this.id = id;
+        this.ruleEngine = ruleEngine;
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public SeriesEvaluator forSeries(BacktestSeries series) {
+        Threshold threshold = thresholds.apply(series);
+        if (threshold == null) {
+            return null;
+        }
+        double[][] values = series.getValues();
+        return row -> {
+            for (double[] column : values) {
+                if (ruleEngine.evaluate(column[row], threshold)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
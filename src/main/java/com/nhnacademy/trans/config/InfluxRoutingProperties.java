@@ -0,0 +1,69 @@
+package com.nhnacademy.trans.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * InfluxDB 테넌트별 버킷 라우팅 설정.
+ * <p>
+ * <code>influx.routing.routes[n]</code> 으로 companyDomain(및 선택적으로 origin)별
+ * 버킷/조직을 지정한다. 일치하는 라우트가 없으면 <code>influx.bucket</code>, <code>influx.org</code> 로 저장된다.
+ * 배치 크기, 플러시 주기, 재시도는 라우트와 관계없이 {@code sink.*} 디스패처 설정을 따른다.
+ */
+@Component
+@ConfigurationProperties(prefix = "influx.routing")
+@Getter
+@Setter
+public class InfluxRoutingProperties {
+
+    /**
+     * 라우트 목록. 앞에서부터 먼저 일치하는 라우트가 사용된다.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * companyDomain/origin → bucket/org 라우트.
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * 대상 companyDomain. "*" 이면 모든 테넌트.
+         */
+        private String companyDomain;
+
+        /**
+         * 대상 origin (server_data 또는 sensor_data). 비어 있으면 모든 origin.
+         */
+        private String origin;
+
+        /**
+         * 저장할 버킷.
+         */
+        private String bucket;
+
+        /**
+         * 저장할 조직. 비어 있으면 <code>influx.org</code>.
+         */
+        private String org;
+
+        /**
+         * companyDomain 과 origin 이 이 라우트와 일치하는지 확인한다.
+         *
+         * @param domain    companyDomain
+         * @param dataOrigin origin
+         * @return 일치 여부
+         */
+        public boolean matches(String domain, String dataOrigin) {
+            boolean domainMatches = "*".equals(companyDomain) || (companyDomain != null && companyDomain.equals(domain));
+            boolean originMatches = origin == null || origin.isBlank() || origin.equals(dataOrigin);
+            return domainMatches && originMatches;
+        }
+    }
+}
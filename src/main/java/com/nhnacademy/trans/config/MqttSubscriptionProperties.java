@@ -0,0 +1,105 @@
+package com.nhnacademy.trans.config;
+
+import com.nhnacademy.trans.domain.PayloadCompression;
+import com.nhnacademy.trans.domain.PayloadFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MQTT 구독 패턴 설정.
+ * <p>
+ * <code>mqtt.subscriptions[n]</code> 으로 토픽 필터(+, # 와일드카드)와 패턴별 처리 옵션을 지정한다.
+ * 한 토픽이 여러 패턴과 일치하면 앞에 선언된 패턴이 사용된다.
+ * 설정이 없으면 {@link #DEFAULT_FILTER} 하나를 기본 옵션으로 구독한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "mqtt")
+@Getter
+@Setter
+public class MqttSubscriptionProperties {
+
+    /**
+     * 구독 패턴이 설정되지 않았을 때 사용하는 토픽 필터.
+     */
+    public static final String DEFAULT_FILTER = "+/s/+/b/+/p/server_room/#";
+
+    /**
+     * 토픽 → 패턴 결정 결과 캐시의 최대 토픽 수.
+     */
+    private int routeCacheSize = 100000;
+
+    /**
+     * 구독 패턴 목록.
+     */
+    private List<Subscription> subscriptions = new ArrayList<>();
+
+    /**
+     * 실제로 구독할 패턴 목록. 설정이 없으면 기본 패턴 하나.
+     *
+     * @return 구독 패턴 목록
+     */
+    public List<Subscription> effectiveSubscriptions() {
+        if (!subscriptions.isEmpty()) {
+            return subscriptions;
+        }
+        Subscription subscription = new Subscription();
+        subscription.setName("default");
+        subscription.setFilter(DEFAULT_FILTER);
+        return List.of(subscription);
+    }
+
+    /**
+     * 구독 패턴 하나와 처리 옵션.
+     */
+    @Getter
+    @Setter
+    public static class Subscription {
+
+        /**
+         * 로그·통계에 표시할 이름. 비어 있으면 필터를 사용한다.
+         */
+        private String name;
+
+        /**
+         * MQTT 토픽 필터 (예: +/s/+/b/+/p/server_room/#).
+         */
+        private String filter;
+
+        /**
+         * 구독 QoS (0, 1, 2). 비어 있으면 클라이언트 기본값.
+         */
+        private Integer qos;
+
+        /**
+         * 임계값·복합 룰 평가와 이상치 탐지 여부. false 이면 저장과 최신 값 갱신만 한다.
+         */
+        private boolean rules = true;
+
+        /**
+         * 저장할 InfluxDB 버킷. 비어 있으면 테넌트 라우팅(influx.routing)을 따른다.
+         */
+        private String bucket;
+
+        /**
+         * 페이로드 형식. 비어 있으면 토픽 접미사, 헤더 바이트, 첫 바이트 순으로 판단한다.
+         */
+        private PayloadFormat format;
+
+        /**
+         * 페이로드 압축 형식.
+         */
+        private PayloadCompression compression = PayloadCompression.NONE;
+
+        /**
+         * @return 이름, 없으면 필터
+         */
+        public String displayName() {
+            return name == null || name.isBlank() ? filter : name;
+        }
+    }
+}
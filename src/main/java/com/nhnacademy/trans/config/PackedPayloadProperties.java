@@ -0,0 +1,29 @@
+package com.nhnacademy.trans.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packed 바이너리 페이로드(타임스탬프 + N 개의 double)의 필드 이름 설정.
+ * <p>
+ * <code>payload.packed.fields.{measurement}=used,free</code> 처럼 measurement 별로
+ * double 순서에 대응하는 필드 이름을 지정한다. 지정하지 않으면 값이 하나일 때는 "value",
+ * 여러 개일 때는 "value0", "value1", ... 을 사용한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "payload.packed")
+@Getter
+@Setter
+public class PackedPayloadProperties {
+
+    /**
+     * measurement → double 순서별 필드 이름.
+     */
+    private Map<String, List<String>> fields = new HashMap<>();
+}
@@ -4,16 +4,31 @@ import com.nhnacademy.trans.adaptor.RuleAdaptor;
 import com.nhnacademy.trans.domain.RuleCache;
 import com.nhnacademy.trans.domain.Threshold;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+/**
+ * 임계값 룰을 rule-api 에서 불러와 Redis 와 프로세스 메모리에 캐시하는 서비스.
+ * <p>
+ * {@link #reloadAllRules()}가 성공하면 메모리 캐시가 전체 룰을 가지므로
+ * 수집 경로의 {@link #getThreshold(String, String, String)}는 Redis 를 거치지 않는다.
+ * 전체 룰은 {@code rules.reload-interval-ms} 주기로 다시 적재하여 임계값 변경과 새 장치를 반영한다.
+ * 적재 전(또는 적재 실패 시)에는 Redis 에서 조회한 결과(없는 룰 포함)를 같은 주기 동안만 메모리에 캐시한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RuleCacheService {
@@ -28,6 +43,22 @@ public class RuleCacheService {
      */
     private final RuleAdaptor ruleAdaptor;
 
+    /**
+     * 전체 룰 재적재 주기이자 Redis 에서 조회한 항목의 메모리 캐시 유지 시간(ms).
+     */
+    @Value("${rules.reload-interval-ms:60000}")
+    private long reloadIntervalMs = 60000;
+
+    /**
+     * 메모리 캐시 (키: {domain}:{id}:{type}). 적재 시 통째로 교체한다.
+     */
+    private volatile Map<String, Entry> thresholds = new ConcurrentHashMap<>();
+
+    /**
+     * 메모리 캐시가 전체 룰을 담고 있는지 여부. true 이면 캐시에 없는 룰은 없는 것으로 본다.
+     */
+    private volatile boolean complete;
+
     /**
      * MySQL에서 센서 및 서버 룰을 모두 가져와 Redis에 저장.
      * <code>fetchRules</code>
@@ -38,6 +69,38 @@ public class RuleCacheService {
 
         cacheRules(sensorRules);
         cacheRules(serverRules);
+
+        Map<String, Entry> loaded = new HashMap<>();
+        putAll(loaded, sensorRules);
+        putAll(loaded, serverRules);
+        thresholds = new ConcurrentHashMap<>(loaded);
+        complete = true;
+    }
+
+    /**
+     * 전체 룰을 주기적으로 다시 적재한다. 실패하면 경고만 남기고 기존 캐시를 유지한다.
+     * 첫 적재는 {@code StartupService}가 수행하므로 한 주기 뒤부터 실행된다.
+     */
+    @Scheduled(fixedDelayString = "${rules.reload-interval-ms:60000}",
+            initialDelayString = "${rules.reload-interval-ms:60000}")
+    public void scheduledReload() {
+        try {
+            reloadAllRules();
+        } catch (RuntimeException e) {
+            log.warn("룰 재적재 실패, 기존 캐시 유지", e);
+        }
+    }
+
+    private static void putAll(Map<String, Entry> target, List<RuleCache> rules) {
+        for (RuleCache ruleCache : rules) {
+            ruleCache.getRules().forEach((type, threshold) ->
+                    target.put(localKey(type, ruleCache.getCompanyDomain(), ruleCache.getId()),
+                            new Entry(Optional.ofNullable(threshold), Entry.NEVER)));
+        }
+    }
+
+    private static String localKey(String type, String domain, String id) {
+        return domain + ":" + id + ":" + type;
     }
 
     /**
@@ -79,15 +142,37 @@ public class RuleCacheService {
     }
 
     /**
-     * Redis 에서 특정 룰(Threshold) 조회.
+     * 특정 룰(Threshold) 조회. 메모리 캐시를 먼저 보고, 전체 룰이 적재되기 전에만 Redis 를 조회한다.
+     * Redis 조회 결과는 {@code rules.reload-interval-ms} 동안만 메모리에 캐시한다.
      * @param type   룰 맵의 키(예: "temperature", "humidity")
      * @param domain companyDomain
      * @param id     sensorId 또는 serverId
      * @return       Threshold 또는 Optional.empty()
      */
     public Optional<Threshold> getThreshold(String type, String domain, String id) {
+        Map<String, Entry> cache = thresholds;
+        String localKey = localKey(type, domain, id);
+        Entry cached = cache.get(localKey);
+        if (cached != null && (cached.expiresAt() == Entry.NEVER || System.nanoTime() - cached.expiresAt() < 0)) {
+            return cached.threshold();
+        }
+        if (complete) {
+            return Optional.empty();
+        }
         String key = String.format("rule:%s:%s", domain, id);
         Threshold threshold = redisTemplate.<String, Threshold>opsForHash().get(key, type);
-        return Optional.ofNullable(threshold);
+        Optional<Threshold> result = Optional.ofNullable(threshold);
+        cache.put(localKey, new Entry(result, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reloadIntervalMs)));
+        return result;
+    }
+
+    /**
+     * 메모리 캐시 항목.
+     *
+     * @param threshold 임계값 (룰이 없으면 empty)
+     * @param expiresAt 만료 시각({@link System#nanoTime()} 기준). 전체 적재로 얻은 항목은 {@link #NEVER}
+     */
+    private record Entry(Optional<Threshold> threshold, long expiresAt) {
+        private static final long NEVER = Long.MIN_VALUE;
     }
 }
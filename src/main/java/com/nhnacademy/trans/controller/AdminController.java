@@ -0,0 +1,45 @@
+package com.nhnacademy.trans.controller;
+
+import com.nhnacademy.trans.domain.SinkStats;
+import com.nhnacademy.trans.domain.TrafficReport;
+import com.nhnacademy.trans.service.TrafficStatsService;
+import com.nhnacademy.trans.sink.SinkDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/***
+ * 운영용 관리 API
+ */
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final TrafficStatsService trafficStatsService;
+    private final SinkDispatcher sinkDispatcher;
+
+    /***
+     * 메시지 수 상위 시계열/테넌트와 고유 시계열 수를 조회한다.
+     * @param limit 상위 항목 최대 개수
+     * @return 트래픽 통계
+     */
+    @GetMapping("/traffic")
+    public ResponseEntity<TrafficReport> traffic(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(trafficStatsService.report(limit));
+    }
+
+    /***
+     * 싱크별 적재/저장/버림/실패 통계를 조회한다.
+     * @return 싱크 통계 목록
+     */
+    @GetMapping("/sinks")
+    public ResponseEntity<List<SinkStats>> sinks() {
+        return ResponseEntity.ok(sinkDispatcher.stats());
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.trans.controller;
+
+import com.nhnacademy.trans.domain.BackfillResult;
+import com.nhnacademy.trans.service.BackfillService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/***
+ * 과거 데이터 대량 적재(백필) API
+ */
+@RestController
+@RequestMapping("/backfill")
+@RequiredArgsConstructor
+public class BackfillController {
+
+    /***
+     * 스트림 읽기 버퍼 크기
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BackfillService backfillService;
+
+    /***
+     * NDJSON 본문을 스트리밍으로 읽어 적재한다.
+     * <p>Content-Encoding: gzip 이거나 본문이 gzip 매직 바이트로 시작하면 압축을 풀어 읽는다.
+     * @param request HTTP 요청 (본문: {"topic":"...","payload":...} NDJSON)
+     * @param rules   true 이면 임계값 룰을 평가한다
+     * @return 처리 결과
+     */
+    @PostMapping
+    public ResponseEntity<BackfillResult> backfill(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean rules) throws IOException, InterruptedException {
+        try (InputStream in = decode(request)) {
+            BackfillResult result = backfillService.importStream(in, rules);
+            return result.isCompleted()
+                    ? ResponseEntity.ok(result)
+                    : ResponseEntity.badRequest().body(result);
+        }
+    }
+
+    private InputStream decode(HttpServletRequest request) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(request.getInputStream(), BUFFER_SIZE);
+        if ("gzip".equalsIgnoreCase(request.getHeader("Content-Encoding")) || isGzip(in)) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    private boolean isGzip(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int b1 = in.read();
+        int b2 = in.read();
+        in.reset();
+        return b1 == 0x1f && b2 == 0x8b;
+    }
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.trans.controller;
+
+import com.nhnacademy.trans.backtest.BacktestService;
+import com.nhnacademy.trans.domain.BacktestRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/***
+ * 룰 백테스트 API
+ */
+@RestController
+@RequestMapping("/backtest")
+@RequiredArgsConstructor
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    /***
+     * 과거 데이터에 후보 룰을 적용해 알림 발생 횟수와 타임라인을 계산한다.
+     * @param request 테넌트, 기간, 후보 임계값/복합 룰
+     * @return 룰별 결과 (요청이 잘못되었으면 400 과 오류 내용)
+     */
+    @PostMapping
+    public ResponseEntity<?> backtest(@RequestBody BacktestRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(backtestService.run(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+        }
+    }
+}
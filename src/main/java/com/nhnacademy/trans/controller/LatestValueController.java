@@ -0,0 +1,38 @@
+package com.nhnacademy.trans.controller;
+
+import com.nhnacademy.trans.domain.LatestValue;
+import com.nhnacademy.trans.service.LatestValueStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/***
+ * 센서/서버의 현재 상태(최신 값)를 메모리에서 조회하는 API
+ */
+@RestController
+@RequestMapping("/latest")
+@RequiredArgsConstructor
+public class LatestValueController {
+
+    private final LatestValueStore latestValueStore;
+
+    /***
+     * 최신 값 목록을 조회한다. 모든 필터는 선택 사항이다.
+     * @param companyDomain companyDomain 필터
+     * @param building      building 필터
+     * @param place         place 필터
+     * @return 필터에 맞는 시계열의 최신 값 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<LatestValue>> findLatest(
+            @RequestParam(required = false) String companyDomain,
+            @RequestParam(required = false) String building,
+            @RequestParam(required = false) String place) {
+        return ResponseEntity.ok(latestValueStore.find(companyDomain, building, place));
+    }
+}
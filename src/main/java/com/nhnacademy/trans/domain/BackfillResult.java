@@ -0,0 +1,47 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/***
+ * 대량 적재(백필) 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class BackfillResult {
+
+    /***
+     * 읽은 레코드(줄) 수
+     */
+    private final long records;
+
+    /***
+     * 싱크로 전달한 측정값 수
+     */
+    private final long readings;
+
+    /***
+     * topic/payload 가 잘못되었거나 타임스탬프(time)가 없어 건너뛴 레코드 수
+     */
+    private final long skipped;
+
+    /***
+     * 룰 평가 시 임계값을 초과한 측정값 수 (룰 평가를 하지 않으면 0)
+     */
+    private final long triggered;
+
+    /***
+     * 처리 시간(ms)
+     */
+    private final long elapsedMillis;
+
+    /***
+     * 본문 끝까지 처리했는지 여부 (JSON 구문 오류로 중단되면 false)
+     */
+    private final boolean completed;
+
+    /***
+     * 중단 사유 (정상 완료 시 null)
+     */
+    private final String error;
+}
@@ -0,0 +1,55 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/***
+ * 룰 백테스트 결과
+ */
+@Getter
+@AllArgsConstructor
+public class BacktestReport {
+
+    /***
+     * CompanyDomain -Client 대표 식별자
+     */
+    private final String companyDomain;
+
+    /***
+     * 조회 시작 시각
+     */
+    private final Instant start;
+
+    /***
+     * 조회 종료 시각
+     */
+    private final Instant stop;
+
+    /***
+     * 평가한 시계열(장치·measurement) 수
+     */
+    private final long series;
+
+    /***
+     * 평가한 시점(행) 수
+     */
+    private final long points;
+
+    /***
+     * 타임라인 한 구간의 길이(ms). 구간 수가 너무 많으면 요청보다 커질 수 있다
+     */
+    private final long timelineMillis;
+
+    /***
+     * 처리 시간(ms)
+     */
+    private final long elapsedMillis;
+
+    /***
+     * 룰별 결과
+     */
+    private final List<BacktestRuleResult> rules;
+}
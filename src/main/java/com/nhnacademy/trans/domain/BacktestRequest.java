@@ -0,0 +1,69 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/***
+ * 룰 백테스트 요청
+ * <p>지정한 기간·테넌트의 과거 데이터에 후보 룰을 적용했을 때 알림이 몇 번 발생했을지 계산한다.</p>
+ */
+@Data
+@NoArgsConstructor
+public class BacktestRequest {
+
+    /***
+     * CompanyDomain -Client 대표 식별자
+     */
+    private String companyDomain;
+
+    /***
+     * 대상 measurement (null 이면 전체)
+     */
+    private String measurement;
+
+    /***
+     * 조회 시작 시각 (포함)
+     */
+    private Instant start;
+
+    /***
+     * 조회 종료 시각 (미포함)
+     */
+    private Instant stop;
+
+    /***
+     * 후보 임계값 (measurement → Threshold). measurement 마다 하나의 룰로 집계된다
+     */
+    private Map<String, Threshold> thresholds = new HashMap<>();
+
+    /***
+     * true 이면 현재 Redis 에 적재된 장치별 임계값도 함께 평가한다
+     */
+    private boolean currentThresholds;
+
+    /***
+     * 후보 복합 룰
+     */
+    private List<CompositeRule> compositeRules = new ArrayList<>();
+
+    /***
+     * true 이면 현재 적재된 복합 룰도 함께 평가한다
+     */
+    private boolean currentCompositeRules;
+
+    /***
+     * true 이면 시계열별 EWMA 이상치 탐지를 함께 평가한다
+     */
+    private boolean anomaly;
+
+    /***
+     * 타임라인 구간 길이(초)
+     */
+    private long timelineSeconds = 3600;
+}
@@ -0,0 +1,42 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/***
+ * 백테스트에서 룰 하나의 알림 발생 결과
+ */
+@Getter
+@AllArgsConstructor
+public class BacktestRuleResult {
+
+    /***
+     * 룰 식별자 (예: threshold:cpu, composite:r1, anomaly:ewma)
+     */
+    private final String ruleId;
+
+    /***
+     * 알림이 발생한 시점(행) 수
+     */
+    private final long triggers;
+
+    /***
+     * 알림이 한 번 이상 발생한 시계열 수
+     */
+    private final long triggeredSeries;
+
+    /***
+     * 첫 알림 시각(ms, 없으면 0)
+     */
+    private final long firstTrigger;
+
+    /***
+     * 마지막 알림 시각(ms, 없으면 0)
+     */
+    private final long lastTrigger;
+
+    /***
+     * 구간별 알림 수. i 번째 값은 start + i * timelineMillis 부터의 구간
+     */
+    private final long[] timeline;
+}
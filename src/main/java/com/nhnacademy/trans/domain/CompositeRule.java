@@ -0,0 +1,40 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/***
+ * 하나의 측정값(여러 필드)에 대한 복합 조건 룰
+ * <p>예: measurement=server, expression="cpu > 90 AND mem > 85"</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompositeRule {
+
+    /***
+     * 룰 식별자
+     */
+    private String id;
+
+    /***
+     * CompanyDomain -Client 대표 식별자
+     */
+    private String companyDomain;
+
+    /***
+     * 적용할 measurement
+     */
+    private String measurement;
+
+    /***
+     * 적용할 장치(서버 호스트, 센서 아이디). null 이면 모든 장치
+     */
+    private String deviceId;
+
+    /***
+     * 룰 식 (필드 이름, 숫자, + - * /, 비교 연산자, AND/OR/NOT, 괄호)
+     */
+    private String expression;
+}
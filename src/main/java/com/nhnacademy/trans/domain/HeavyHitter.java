@@ -0,0 +1,32 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/***
+ * 빈도 상위 항목 (Space-Saving 추정치)
+ */
+@Getter
+@AllArgsConstructor
+public class HeavyHitter {
+
+    /***
+     * 항목 키 (토픽 또는 companyDomain)
+     */
+    private final String key;
+
+    /***
+     * 추정 메시지 수 (실제 값 이상)
+     */
+    private final long count;
+
+    /***
+     * 추정 오차 상한 (count - error 가 실제 값의 하한)
+     */
+    private final long error;
+
+    /***
+     * 초당 메시지 수
+     */
+    private final double ratePerSecond;
+}
@@ -0,0 +1,62 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/***
+ * 시계열의 최신 값 조회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class LatestValue {
+
+    /***
+     * server_data 또는 sensor_data
+     */
+    private final String origin;
+
+    /***
+     * CompanyDomain -Client 대표 식별자
+     */
+    private final String companyDomain;
+
+    /***
+     * 건물
+     */
+    private final String building;
+
+    /***
+     * 장소
+     */
+    private final String place;
+
+    /***
+     * 서버 호스트 또는 센서 아이디
+     */
+    private final String deviceId;
+
+    /***
+     * 측정 항목
+     */
+    private final String measurement;
+
+    /***
+     * 필드 이름
+     */
+    private final String field;
+
+    /***
+     * 최신 값
+     */
+    private final double value;
+
+    /***
+     * 최신 값의 타임스탬프(ms)
+     */
+    private final long time;
+
+    /***
+     * 임계값 초과 여부
+     */
+    private final boolean breached;
+}
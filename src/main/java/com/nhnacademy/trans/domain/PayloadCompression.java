@@ -0,0 +1,22 @@
+package com.nhnacademy.trans.domain;
+
+/***
+ * MQTT 페이로드 압축 형식 (구독 패턴별로 지정)
+ */
+public enum PayloadCompression {
+
+    /***
+     * 압축하지 않음
+     */
+    NONE,
+
+    /***
+     * gzip (RFC 1952)
+     */
+    GZIP,
+
+    /***
+     * zlib deflate (RFC 1950)
+     */
+    DEFLATE
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/***
+ * MQTT 페이로드 인코딩 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PayloadFormat {
+
+    /***
+     * JSON 텍스트 {"time":&lt;ms&gt;,"value":&lt;number|object&gt;} 또는 단일 숫자
+     */
+    JSON("json", (byte) 0),
+
+    /***
+     * CBOR 로 인코딩된 JSON 과 같은 구조
+     */
+    CBOR("cbor", (byte) 0x02),
+
+    /***
+     * MessagePack 으로 인코딩된 JSON 과 같은 구조
+     */
+    MSGPACK("msgpack", (byte) 0x03),
+
+    /***
+     * 8바이트 타임스탬프(ms) + N 개의 double (모두 little-endian)
+     */
+    PACKED("packed", (byte) 0x01);
+
+    /***
+     * 토픽 마지막 토큰으로 형식을 지정할 때 사용하는 접미사 (예: .../e/cpu/cbor)
+     */
+    private final String suffix;
+
+    /***
+     * 페이로드 첫 바이트로 형식을 지정할 때 사용하는 헤더 바이트 (JSON 은 헤더 없음)
+     */
+    private final byte header;
+
+    /***
+     * 토픽 마지막 토큰이 형식 접미사이면 해당 형식을 반환한다.
+     * @param topic MQTT 토픽
+     * @return 형식 또는 접미사가 없으면 null
+     */
+    public static PayloadFormat fromTopicSuffix(String topic) {
+        String last = topic.substring(topic.lastIndexOf('/') + 1);
+        for (PayloadFormat format : values()) {
+            if (format.suffix.equals(last)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /***
+     * 헤더 바이트에 해당하는 형식을 반환한다.
+     * @param b 페이로드 첫 바이트
+     * @return 형식 또는 헤더 바이트가 아니면 null
+     */
+    public static PayloadFormat fromHeader(byte b) {
+        for (PayloadFormat format : values()) {
+            if (format.header != 0 && format.header == b) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
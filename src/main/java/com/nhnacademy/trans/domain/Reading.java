@@ -0,0 +1,74 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Objects;
+
+/***
+ * 토픽과 페이로드를 파싱한 단일 측정값 (시계열 하나의 한 시점)
+ */
+@Getter
+@AllArgsConstructor
+public class Reading {
+
+    /***
+     * 레지스트리에서 부여한 시계열 ID
+     */
+    private final int seriesId;
+
+    /***
+     * 원본 MQTT 토픽
+     */
+    private final String topic;
+
+    /***
+     * 토픽에서 파싱한 태그 맵 (토픽별로 공유되는 변경 불가능한 맵)
+     */
+    private final Map<String, String> tags;
+
+    /***
+     * 필드 이름 (단일 값이면 "value")
+     */
+    private final String field;
+
+    /***
+     * 타임스탬프(ms)
+     */
+    private final long time;
+
+    /***
+     * 측정값
+     */
+    private final double value;
+
+    /***
+     * 저장할 버킷 (구독 패턴에서 지정, null 이면 싱크의 테넌트 라우팅을 따른다)
+     */
+    private final String bucket;
+
+    public Reading(int seriesId, String topic, Map<String, String> tags, String field, long time, double value) {
+        this(seriesId, topic, tags, field, time, value, null);
+    }
+
+    /***
+     * 저장할 버킷만 바꾼 측정값을 반환한다
+     * @param targetBucket 저장할 버킷
+     * @return 새 측정값 (버킷이 같으면 this)
+     */
+    public Reading withBucket(String targetBucket) {
+        if (Objects.equals(bucket, targetBucket)) {
+            return this;
+        }
+        return new Reading(seriesId, topic, tags, field, time, value, targetBucket);
+    }
+
+    /***
+     * measurement 태그 값
+     * @return measurement
+     */
+    public String getMeasurement() {
+        return tags.get("measurement");
+    }
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/***
+ * 하나의 시계열(토픽 + 필드)을 식별하는 태그 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeriesKey {
+
+    /***
+     * 레지스트리에서 부여한 시계열 ID
+     */
+    private final int id;
+
+    /***
+     * 원본 MQTT 토픽
+     */
+    private final String topic;
+
+    /***
+     * 필드 이름 (단일 값이면 "value")
+     */
+    private final String field;
+
+    /***
+     * 토픽에서 파싱한 태그 맵
+     */
+    private final Map<String, String> tags;
+
+    /***
+     * 주어진 태그 값이 필터와 일치하는지 확인한다. 필터가 null 이면 항상 일치한다.
+     * @param tag    태그 이름 (예: "companyDomain")
+     * @param filter 비교할 값
+     * @return 일치 여부
+     */
+    public boolean matches(String tag, String filter) {
+        return filter == null || filter.equals(tags.get(tag));
+    }
+}
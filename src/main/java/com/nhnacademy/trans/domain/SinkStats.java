@@ -0,0 +1,47 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/***
+ * 싱크별 처리 통계
+ */
+@Getter
+@AllArgsConstructor
+public class SinkStats {
+
+    /***
+     * 싱크 이름
+     */
+    private final String name;
+
+    /***
+     * 큐에 적재된 측정값 수
+     */
+    private final long accepted;
+
+    /***
+     * 저장에 성공한 측정값 수
+     */
+    private final long written;
+
+    /***
+     * 큐가 가득 차 버려진 측정값 수
+     */
+    private final long dropped;
+
+    /***
+     * 재시도 후에도 실패하여 버려진 배치 수
+     */
+    private final long failedBatches;
+
+    /***
+     * 싱크가 저장할 수 없는 형식이라 건너뛴 측정값 수
+     */
+    private final long rejected;
+
+    /***
+     * 현재 큐에 대기 중인 측정값 수
+     */
+    private final int queued;
+}
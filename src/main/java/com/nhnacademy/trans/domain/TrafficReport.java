@@ -0,0 +1,50 @@
+package com.nhnacademy.trans.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/***
+ * 수집 트래픽 통계 (상위 시계열/테넌트, 고유 시계열 수)
+ */
+@Getter
+@AllArgsConstructor
+public class TrafficReport {
+
+    /***
+     * 집계 구간 시작 시각(ms)
+     */
+    private final long windowStart;
+
+    /***
+     * 집계 구간 길이(초)
+     */
+    private final long windowSeconds;
+
+    /***
+     * 구간 내 전체 메시지 수
+     */
+    private final long totalMessages;
+
+    /***
+     * 메시지 수 상위 시계열(토픽)
+     */
+    private final List<HeavyHitter> topSeries;
+
+    /***
+     * 메시지 수 상위 테넌트(companyDomain)
+     */
+    private final List<HeavyHitter> topTenants;
+
+    /***
+     * 서비스 시작 이후 고유 시계열 수 추정치
+     */
+    private final long distinctSeries;
+
+    /***
+     * 테넌트별 고유 시계열 수 추정치
+     */
+    private final Map<String, Long> distinctSeriesByTenant;
+}
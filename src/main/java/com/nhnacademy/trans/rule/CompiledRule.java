@@ -0,0 +1,182 @@
+package com.nhnacademy.trans.rule;
+
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Reading;
+import com.nhnacademy.trans.service.SeriesRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컴파일된 복합 룰.
+ * <p>
+ * 식에 등장하는 필드 이름을 슬롯 번호로 미리 바꿔 두었으므로, 평가 시에는 측정값을 double 배열 슬롯에 채운 뒤
+ * 람다 트리를 한 번 실행하기만 하면 된다. 맵 조회나 박싱이 없다.
+ * <p>
+ * 측정값 목록으로 평가할 때는 토픽별로 슬롯을 시계열 ID 로 한 번만 풀어 두고, 이후에는 int 비교로 값을 찾는다.
+ * 슬롯 배열은 스레드별 버퍼를 재사용하므로 평가마다 할당하지 않는다.
+ */
+@Getter
+public class CompiledRule {
+
+    /**
+     * 원본 룰.
+     */
+    private final CompositeRule rule;
+
+    /**
+     * 슬롯 번호 → 필드 이름.
+     */
+    private final String[] fields;
+
+    private final RuleExpressionCompiler.BoolExpr predicate;
+
+    /**
+     * 토픽별 슬롯 → 시계열 ID 바인딩 캐시의 최대 크기. 넘으면 비운다.
+     */
+    private static final int MAX_BINDINGS = 4096;
+
+    /**
+     * 평가용 스레드별 슬롯 버퍼. 모든 룰이 공유하며 필요하면 늘린다.
+     */
+    private static final ThreadLocal<double[]> SCRATCH = ThreadLocal.withInitial(() -> new double[8]);
+
+    /**
+     * 토픽 → 슬롯별 시계열 ID.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Binding> bindings = new ConcurrentHashMap<>();
+
+    CompiledRule(CompositeRule rule, String[] fields, RuleExpressionCompiler.BoolExpr predicate) {
+        this.rule = rule;
+        this.fields = fields;
+        this.predicate = predicate;
+    }
+
+    /**
+     * 한 메시지의 측정값(같은 시점의 여러 필드)에 대해 룰을 평가한다.
+     * 식에 필요한 필드가 하나라도 없으면 {@code false}를 반환한다.
+     *
+     * @param readings 한 메시지에서 파싱된 측정값 목록
+     * @return 조건을 만족하면 {@code true}
+     */
+    public boolean test(List<Reading> readings) {
+        if (readings.isEmpty()) {
+            return false;
+        }
+        Binding binding = binding(readings);
+        double[] slots = scratch();
+        if (!binding.complete()) {
+            return testByName(readings, slots);
+        }
+        int[] ids = binding.seriesIds();
+        for (int slot = 0; slot < ids.length; slot++) {
+            int i = indexOf(readings, ids[slot]);
+            if (i < 0) {
+                return false;
+            }
+            slots[slot] = readings.get(i).getValue();
+        }
+        return predicate.test(slots);
+    }
+
+    /**
+     * 토픽의 슬롯 → 시계열 ID 바인딩을 찾고, 아직 풀리지 않은 슬롯이 있으면 이번 측정값으로 채운다.
+     */
+    private Binding binding(List<Reading> readings) {
+        String topic = readings.get(0).getTopic();
+        Binding binding = bindings.get(topic);
+        if (binding != null && binding.complete()) {
+            return binding;
+        }
+        int[] ids;
+        if (binding == null) {
+            ids = new int[fields.length];
+            Arrays.fill(ids, SeriesRegistry.NO_ID);
+        } else {
+            ids = binding.seriesIds().clone();
+        }
+        boolean complete = true;
+        for (int slot = 0; slot < fields.length; slot++) {
+            if (ids[slot] == SeriesRegistry.NO_ID) {
+                for (int i = 0; i < readings.size(); i++) {
+                    Reading reading = readings.get(i);
+                    if (fields[slot].equals(reading.getField())) {
+                        ids[slot] = reading.getSeriesId();
+                        break;
+                    }
+                }
+                complete &= ids[slot] != SeriesRegistry.NO_ID;
+            }
+        }
+        Binding resolved = new Binding(ids, complete);
+        if (bindings.size() >= MAX_BINDINGS) {
+            bindings.clear();
+        }
+        bindings.put(topic, resolved);
+        return resolved;
+    }
+
+    /**
+     * 시계열 ID 가 없는 경우(레지스트리 용량 초과 등) 필드 이름으로 값을 찾아 평가한다.
+     */
+    private boolean testByName(List<Reading> readings, double[] slots) {
+        for (int slot = 0; slot < fields.length; slot++) {
+            String field = fields[slot];
+            boolean found = false;
+            for (int i = 0; i < readings.size(); i++) {
+                Reading reading = readings.get(i);
+                if (field.equals(reading.getField())) {
+                    slots[slot] = reading.getValue();
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return predicate.test(slots);
+    }
+
+    private static int indexOf(List<Reading> readings, int seriesId) {
+        for (int i = 0; i < readings.size(); i++) {
+            if (readings.get(i).getSeriesId() == seriesId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private double[] scratch() {
+        double[] slots = SCRATCH.get();
+        if (slots.length < fields.length) {
+            slots = new double[fields.length];
+            SCRATCH.set(slots);
+        }
+        return slots;
+    }
+
+    /**
+     * 슬롯 값으로 직접 평가한다.
+     *
+     * @param slots {@link #getFields()} 순서의 필드 값
+     * @return 조건을 만족하면 {@code true}
+     */
+    public boolean test(double[] slots) {
+        return predicate.test(slots);
+    }
+
+    /**
+     * 토픽 하나에 대한 슬롯별 시계열 ID.
+     *
+     * @param seriesIds 슬롯 번호 → 시계열 ID (풀리지 않은 슬롯은 {@link SeriesRegistry#NO_ID})
+     * @param complete  모든 슬롯이 풀렸는지 여부
+     */
+    private record Binding(int[] seriesIds, boolean complete) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.nhnacademy.trans.rule;
+
+import com.nhnacademy.trans.adaptor.RuleAdaptor;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Reading;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복합 룰을 적재·컴파일하고 측정값에 대해 평가하는 서비스.
+ * <p>
+ * 룰은 적재 시점에 한 번만 {@link RuleExpressionCompiler}로 컴파일되어
+ * (companyDomain, measurement) 별로 묶인 불변 맵으로 교체된다. 수집 경로는 volatile 읽기 한 번과
+ * 맵 조회 두 번 후 해당 룰만 평가한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompositeRuleService {
+
+    private final RuleAdaptor ruleAdaptor;
+
+    /**
+     * companyDomain → measurement → 컴파일된 룰 목록.
+     */
+    private volatile Map<String, Map<String, List<CompiledRule>>> rules = Map.of();
+
+    /**
+     * rule-api 에서 복합 룰을 불러와 컴파일한다. 문법 오류가 있는 룰은 경고 로그를 남기고 건너뛴다.
+     * <p>rule-api 에 {@code /composite-rules}가 아직 없으면(404) 경고만 남기고 현재 룰(기동 시에는 없음)을 유지한다.
+     */
+    public void reload() {
+        ResponseEntity<List<CompositeRule>> response;
+        try {
+            response = ruleAdaptor.findAllCompositeRules();
+        } catch (FeignException.NotFound e) {
+            log.warn("rule-api 에 /composite-rules 가 없어 복합 룰 없이 동작합니다.");
+            return;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new RuntimeException("복합 룰 API 호출 실패: " + response.getStatusCode());
+        }
+        List<CompositeRule> body = response.getBody();
+        load(body == null ? List.of() : body);
+    }
+
+    /**
+     * 주어진 룰로 현재 룰 집합을 교체한다.
+     *
+     * @param compositeRules 복합 룰 목록
+     * @return 컴파일에 성공한 룰 수
+     */
+    public int load(Collection<CompositeRule> compositeRules) {
+        Map<String, Map<String, List<CompiledRule>>> compiled = new HashMap<>();
+        int count = 0;
+        for (CompositeRule rule : compositeRules) {
+            if (rule.getCompanyDomain() == null || rule.getMeasurement() == null) {
+                log.warn("복합 룰 적용 대상 누락: id={}", rule.getId());
+                continue;
+            }
+            try {
+                CompiledRule compiledRule = RuleExpressionCompiler.compile(rule);
+                compiled.computeIfAbsent(rule.getCompanyDomain(), k -> new HashMap<>())
+                        .computeIfAbsent(rule.getMeasurement(), k -> new ArrayList<>())
+                        .add(compiledRule);
+                count++;
+            } catch (RuleExpressionException e) {
+                log.warn("복합 룰 컴파일 실패: id={}, {}", rule.getId(), e.getMessage());
+            }
+        }
+        Map<String, Map<String, List<CompiledRule>>> snapshot = new HashMap<>();
+        compiled.forEach((domain, byMeasurement) -> {
+            Map<String, List<CompiledRule>> copy = new HashMap<>();
+            byMeasurement.forEach((measurement, list) -> copy.put(measurement, List.copyOf(list)));
+            snapshot.put(domain, Map.copyOf(copy));
+        });
+        rules = Map.copyOf(snapshot);
+        log.info("복합 룰 {}개 적재", count);
+        return count;
+    }
+
+    /**
+     * 한 메시지의 측정값에 대해 해당 회사·measurement 의 복합 룰을 평가한다.
+     *
+     * @param readings 한 메시지에서 파싱된 측정값 목록 (같은 토픽)
+     * @return 조건을 만족한 룰 목록 (없으면 빈 목록)
+     */
+    public List<CompositeRule> evaluate(List<Reading> readings) {
+        if (readings.isEmpty()) {
+            return List.of();
+        }
+        Reading first = readings.get(0);
+        Map<String, List<CompiledRule>> byMeasurement = rules.get(first.getTags().get("companyDomain"));
+        if (byMeasurement == null) {
+            return List.of();
+        }
+        List<CompiledRule> candidates = byMeasurement.get(first.getMeasurement());
+        if (candidates == null) {
+            return List.of();
+        }
+        String deviceId = first.getTags().get("deviceId");
+        List<CompositeRule> triggered = null;
+        for (CompiledRule compiledRule : candidates) {
+            CompositeRule rule = compiledRule.getRule();
+            if (rule.getDeviceId() != null && !rule.getDeviceId().equals(deviceId)) {
+                continue;
+            }
+            if (compiledRule.test(readings)) {
+                if (triggered == null) {
+                    triggered = new ArrayList<>(2);
+                }
+                triggered.add(rule);
+            }
+        }
+        return triggered == null ? List.of() : triggered;
+    }
+
+    /**
+     * 현재 룰을 다시 컴파일한 독립 인스턴스를 만든다.
+     * <p>컴파일된 룰은 토픽별로 실시간 {@link com.nhnacademy.trans.service.SeriesRegistry}의 시계열 ID 를
+     * 캐시하므로, 다른 레지스트리로 파싱한 측정값(백필, 워밍업)은 이 복사본으로 평가해야 실시간 바인딩이 오염되지 않는다.
+     *
+     * @return 같은 룰을 가진 새 서비스 (rule-api 재조회 없음)
+     */
+    public CompositeRuleService detachedCopy() {
+        CompositeRuleService copy = new CompositeRuleService(ruleAdaptor);
+        Map<String, Map<String, List<CompiledRule>>> snapshot = new HashMap<>();
+        rules.forEach((domain, byMeasurement) -> {
+            Map<String, List<CompiledRule>> recompiled = new HashMap<>();
+            byMeasurement.forEach((measurement, list) -> recompiled.put(measurement,
+                    list.stream().map(c -> RuleExpressionCompiler.compile(c.getRule())).toList()));
+            snapshot.put(domain, Map.copyOf(recompiled));
+        });
+        copy.rules = Map.copyOf(snapshot);
+        return copy;
+    }
+
+    /**
+     * 현재 적재된 컴파일된 룰 전체를 반환한다.
+     *
+     * @return 컴파일된 룰 목록
+     */
+    public List<CompiledRule> compiledRules() {
+        List<CompiledRule> all = new ArrayList<>();
+        rules.values().forEach(byMeasurement -> byMeasurement.values().forEach(all::addAll));
+        return all;
+    }
+}
@@ -0,0 +1,323 @@
+package com.nhnacademy.trans.rule;
+
+import com.nhnacademy.trans.domain.CompositeRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 복합 룰 식을 람다 트리로 컴파일하는 컴파일러.
+ * <p>
+ * 문법 (우선순위 낮은 순):
+ * <pre>
+ * or      := and (("OR" | "||") and)*
+ * and     := not (("AND" | "&amp;&amp;") not)*
+ * not     := ("NOT" | "!") not | compare
+ * compare := sum ((">" | ">=" | "&lt;" | "&lt;=" | "==" | "!=") sum)?
+ * sum     := term (("+" | "-") term)*
+ * term    := unary (("*" | "/") unary)*
+ * unary   := "-" unary | primary
+ * primary := number | field | "(" or ")"
+ * </pre>
+ * 괄호 안은 숫자 식과 논리 식 어느 쪽이든 될 수 있으므로, 각 규칙이 타입이 붙은 식을 돌려주고
+ * 연산자마다 피연산자 타입을 검사한다. 되돌아가 다시 파싱하지 않으므로 중첩 깊이와 무관하게 한 번에 파싱된다.
+ * 필드 이름은 등장 순서대로 슬롯 번호가 매겨지며, 결과 람다는 double 배열 슬롯만 읽는다.
+ * 예: {@code cpu > 90 AND mem > 85}, {@code temperature - dewpoint < 2}
+ */
+public final class RuleExpressionCompiler {
+
+    /**
+     * 숫자 식.
+     */
+    @FunctionalInterface
+    public interface NumExpr {
+        double eval(double[] slots);
+    }
+
+    /**
+     * 논리 식.
+     */
+    @FunctionalInterface
+    public interface BoolExpr {
+        boolean test(double[] slots);
+    }
+
+    private RuleExpressionCompiler() {
+    }
+
+    /**
+     * 룰을 컴파일한다.
+     *
+     * @param rule 복합 룰
+     * @return 컴파일된 룰
+     * @throws RuleExpressionException 식에 문법 오류가 있는 경우
+     */
+    public static CompiledRule compile(CompositeRule rule) {
+        Parser parser = new Parser(rule.getExpression() == null ? "" : rule.getExpression());
+        BoolExpr predicate = parser.parse();
+        return new CompiledRule(rule, parser.fields.toArray(String[]::new), predicate);
+    }
+
+    /**
+     * 파싱 중인 식. 숫자 식과 논리 식 중 하나만 채워진다.
+     */
+    private record Expr(NumExpr num, BoolExpr bool) {
+
+        private static Expr numeric(NumExpr num) {
+            return new Expr(num, null);
+        }
+
+        private static Expr logical(BoolExpr bool) {
+            return new Expr(null, bool);
+        }
+    }
+
+    /**
+     * 재귀 하강 파서. 파싱과 동시에 람다를 조립한다.
+     */
+    private static final class Parser {
+        private final String src;
+        private final List<String> fields = new ArrayList<>();
+        private int pos;
+
+        private Parser(String src) {
+            this.src = src;
+        }
+
+        private BoolExpr parse() {
+            BoolExpr expr = bool(or());
+            skipSpaces();
+            if (pos < src.length()) {
+                throw error("예상하지 못한 문자 '" + src.charAt(pos) + "'");
+            }
+            return expr;
+        }
+
+        private Expr or() {
+            Expr left = and();
+            while (acceptKeyword("OR") || accept("||")) {
+                BoolExpr l = bool(left);
+                BoolExpr r = bool(and());
+                left = Expr.logical(slots -> l.test(slots) || r.test(slots));
+            }
+            return left;
+        }
+
+        private Expr and() {
+            Expr left = not();
+            while (acceptKeyword("AND") || accept("&&")) {
+                BoolExpr l = bool(left);
+                BoolExpr r = bool(not());
+                left = Expr.logical(slots -> l.test(slots) && r.test(slots));
+            }
+            return left;
+        }
+
+        private Expr not() {
+            if (acceptKeyword("NOT") || (peek('!') && !peekAt(1, '=') && accept("!"))) {
+                BoolExpr inner = bool(not());
+                return Expr.logical(slots -> !inner.test(slots));
+            }
+            return compare();
+        }
+
+        private Expr compare() {
+            Expr left = sum();
+            skipSpaces();
+            if (accept(">=")) {
+                NumExpr l = num(left);
+                NumExpr r = num(sum());
+                return Expr.logical(slots -> l.eval(slots) >= r.eval(slots));
+            }
+            if (accept("<=")) {
+                NumExpr l = num(left);
+                NumExpr r = num(sum());
+                return Expr.logical(slots -> l.eval(slots) <= r.eval(slots));
+            }
+            if (accept("==")) {
+                NumExpr l = num(left);
+                NumExpr r = num(sum());
+                return Expr.logical(slots -> l.eval(slots) == r.eval(slots));
+            }
+            if (accept("!=")) {
+                NumExpr l = num(left);
+                NumExpr r = num(sum());
+                return Expr.logical(slots -> l.eval(slots) != r.eval(slots));
+            }
+            if (accept(">")) {
+                NumExpr l = num(left);
+                NumExpr r = num(sum());
+                return Expr.logical(slots -> l.eval(slots) > r.eval(slots));
+            }
+            if (accept("<")) {
+                NumExpr l = num(left);
+                NumExpr r = num(sum());
+                return Expr.logical(slots -> l.eval(slots) < r.eval(slots));
+            }
+            // 비교 연산자가 없으면 그대로 돌려준다. 괄호 안의 숫자 식이거나 "(a > 1 OR b > 2)" 같은 논리식이며,
+            // 타입은 이 식을 쓰는 쪽에서 검사한다.
+            return left;
+        }
+
+        private Expr sum() {
+            Expr left = term();
+            while (true) {
+                skipSpaces();
+                if (accept("+")) {
+                    NumExpr l = num(left);
+                    NumExpr r = num(term());
+                    left = Expr.numeric(slots -> l.eval(slots) + r.eval(slots));
+                } else if (accept("-")) {
+                    NumExpr l = num(left);
+                    NumExpr r = num(term());
+                    left = Expr.numeric(slots -> l.eval(slots) - r.eval(slots));
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Expr term() {
+            Expr left = unary();
+            while (true) {
+                skipSpaces();
+                if (accept("*")) {
+                    NumExpr l = num(left);
+                    NumExpr r = num(unary());
+                    left = Expr.numeric(slots -> l.eval(slots) * r.eval(slots));
+                } else if (accept("/")) {
+                    NumExpr l = num(left);
+                    NumExpr r = num(unary());
+                    left = Expr.numeric(slots -> l.eval(slots) / r.eval(slots));
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Expr unary() {
+            skipSpaces();
+            if (accept("-")) {
+                NumExpr inner = num(unary());
+                return Expr.numeric(slots -> -inner.eval(slots));
+            }
+            return primary();
+        }
+
+        private Expr primary() {
+            skipSpaces();
+            if (accept("(")) {
+                Expr inner = or();
+                expect(")");
+                return inner;
+            }
+            if (pos < src.length() && (Character.isDigit(src.charAt(pos)) || src.charAt(pos) == '.')) {
+                int start = pos;
+                while (pos < src.length() && (Character.isDigit(src.charAt(pos)) || src.charAt(pos) == '.')) {
+                    pos++;
+                }
+                double constant;
+                try {
+                    constant = Double.parseDouble(src.substring(start, pos));
+                } catch (NumberFormatException e) {
+                    throw error("잘못된 숫자");
+                }
+                return Expr.numeric(slots -> constant);
+            }
+            if (pos < src.length() && isIdentifierStart(src.charAt(pos))) {
+                int start = pos;
+                while (pos < src.length() && isIdentifierPart(src.charAt(pos))) {
+                    pos++;
+                }
+                String name = src.substring(start, pos);
+                if (isKeyword(name)) {
+                    throw error("필드 이름 자리에 예약어 '" + name + "'");
+                }
+                int slot = slotOf(name);
+                return Expr.numeric(slots -> slots[slot]);
+            }
+            throw error("숫자, 필드 이름 또는 '(' 가 필요합니다");
+        }
+
+        private NumExpr num(Expr expr) {
+            if (expr.num() == null) {
+                throw error("숫자 식이 필요합니다");
+            }
+            return expr.num();
+        }
+
+        private BoolExpr bool(Expr expr) {
+            if (expr.bool() == null) {
+                throw error("비교 연산자가 필요합니다");
+            }
+            return expr.bool();
+        }
+
+        private int slotOf(String name) {
+            int slot = fields.indexOf(name);
+            if (slot < 0) {
+                fields.add(name);
+                slot = fields.size() - 1;
+            }
+            return slot;
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            skipSpaces();
+            int end = pos + keyword.length();
+            if (end <= src.length()
+                    && src.regionMatches(true, pos, keyword, 0, keyword.length())
+                    && (end == src.length() || !isIdentifierPart(src.charAt(end)))) {
+                pos = end;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean accept(String token) {
+            skipSpaces();
+            if (src.startsWith(token, pos)) {
+                pos += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw error("'" + token + "' 가 필요합니다");
+            }
+        }
+
+        private boolean peek(char c) {
+            skipSpaces();
+            return pos < src.length() && src.charAt(pos) == c;
+        }
+
+        private boolean peekAt(int offset, char c) {
+            return pos + offset < src.length() && src.charAt(pos + offset) == c;
+        }
+
+        private void skipSpaces() {
+            while (pos < src.length() && Character.isWhitespace(src.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private static boolean isIdentifierStart(char c) {
+            return Character.isLetter(c) || c == '_';
+        }
+
+        private static boolean isIdentifierPart(char c) {
+            return Character.isLetterOrDigit(c) || c == '_';
+        }
+
+        private static boolean isKeyword(String name) {
+            return name.equalsIgnoreCase("AND") || name.equalsIgnoreCase("OR") || name.equalsIgnoreCase("NOT");
+        }
+
+        private RuleExpressionException error(String message) {
+            return new RuleExpressionException(src, pos, message);
+        }
+    }
+}
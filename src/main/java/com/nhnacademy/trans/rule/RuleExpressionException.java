@@ -0,0 +1,11 @@
+package com.nhnacademy.trans.rule;
+
+/**
+ * 룰 식의 문법 오류를 나타내는 예외.
+ */
+public class RuleExpressionException extends IllegalArgumentException {
+
+    public RuleExpressionException(String expression, int position, String message) {
+        super(message + " (위치 " + position + "): " + expression);
+    }
+}
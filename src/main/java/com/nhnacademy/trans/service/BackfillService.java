@@ -0,0 +1,193 @@
+package com.nhnacademy.trans.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nhnacademy.trans.RuleEngine;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.domain.BackfillResult;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Reading;
+import com.nhnacademy.trans.domain.Threshold;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import com.nhnacademy.trans.sink.SinkDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게이트웨이 장애 등으로 밀린 과거 데이터를 대량 적재하는 서비스.
+ * <p>
+ * NDJSON 스트림의 각 줄은 {"topic":"...","payload":...} 이며, payload 는 MQTT 로 받는 것과 같은
+ * JSON 객체 {"time":&lt;ms&gt;,"value":&lt;number|object&gt;} 또는 그 JSON 문자열이다.
+ * 과거 데이터이므로 'time' 이 없는 레코드(단일 숫자 페이로드 포함)는 건너뛰고 skipped 로 센다.
+ * 본문을 메모리에 올리지 않고 한 줄씩 파싱하며, 큰 배치 단위로 {@link SinkDispatcher}의 백필 큐에 넣는다.
+ * 백필 큐는 싱크 속도에 맞춰 블로킹되고 실시간 큐보다 후순위로 처리되므로 실시간 수집을 방해하지 않는다.
+ * <p>
+ * 과거 토픽으로 실시간 {@link SeriesRegistry}를 채우지 않도록 적재마다 임시 레지스트리로 파싱하고,
+ * 룰 평가 시 복합 룰은 {@link CompositeRuleService#detachedCopy()}로 평가한다.
+ */
+@Service
+@Slf4j
+public class BackfillService {
+
+    private final SinkDispatcher sinkDispatcher;
+    private final RuleCacheService ruleCacheService;
+    private final RuleEngine ruleEngine;
+    private final CompositeRuleService compositeRuleService;
+
+    /**
+     * 싱크로 한 번에 전달할 측정값 수.
+     */
+    private final int batchSize;
+
+    /**
+     * 적재 한 번에 쓰는 임시 시계열 레지스트리의 용량.
+     */
+    private final int maxSeries;
+
+    /** 한 줄씩 JsonNode 로 읽는 ObjectReader. */
+    private final ObjectReader lineReader = new ObjectMapper().readerFor(JsonNode.class);
+
+    /** 문자열로 감싼 페이로드를 JsonNode 로 읽는 ObjectReader. */
+    private final ObjectReader payloadReader = new ObjectMapper().reader();
+
+    public BackfillService(
+            SinkDispatcher sinkDispatcher,
+            RuleCacheService ruleCacheService,
+            RuleEngine ruleEngine,
+            CompositeRuleService compositeRuleService,
+            @Value("${backfill.batch-size:10000}") int batchSize,
+            @Value("${backfill.max-series:100000}") int maxSeries) {
+        this.sinkDispatcher = sinkDispatcher;
+        this.ruleCacheService = ruleCacheService;
+        this.ruleEngine = ruleEngine;
+        this.compositeRuleService = compositeRuleService;
+        this.batchSize = batchSize;
+        this.maxSeries = maxSeries;
+    }
+
+    /**
+     * NDJSON 스트림을 읽어 싱크로 적재한다.
+     *
+     * @param in            NDJSON 입력 스트림 (압축 해제된 상태)
+     * @param evaluateRules true 이면 실시간 수집과 같이 임계값 룰과 복합 룰을 평가해 초과 건수를 센다
+     * @return 처리 결과
+     * @throws IOException          입력 스트림 읽기 실패 시
+     * @throws InterruptedException 싱크 큐 대기 중 인터럽트된 경우
+     */
+    public BackfillResult importStream(InputStream in, boolean evaluateRules) throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        long records = 0;
+        long readings = 0;
+        long skipped = 0;
+        long triggered = 0;
+        String error = null;
+
+        ReadingParser readingParser = new ReadingParser(new SeriesRegistry(maxSeries));
+        CompositeRuleService compositeRules = evaluateRules ? compositeRuleService.detachedCopy() : null;
+        Map<String, Optional<Threshold>> thresholds = new HashMap<>();
+        List<Reading> batch = new ArrayList<>(batchSize);
+
+        try (MappingIterator<JsonNode> it = lineReader.readValues(in)) {
+            while (it.hasNextValue()) {
+                JsonNode line = it.nextValue();
+                records++;
+                List<Reading> parsed = parseLine(readingParser, line);
+                if (parsed.isEmpty()) {
+                    skipped++;
+                    continue;
+                }
+                if (evaluateRules) {
+                    triggered += countTriggered(parsed, thresholds, compositeRules);
+                }
+                batch.addAll(parsed);
+                if (batch.size() >= batchSize) {
+                    readings += flush(batch);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            error = "JSON 구문 오류 (레코드 " + (records + 1) + "): " + e.getOriginalMessage();
+            log.warn("백필 중단: {}", error);
+        }
+        readings += flush(batch);
+
+        BackfillResult result = new BackfillResult(records, readings, skipped, triggered,
+                System.currentTimeMillis() - start, error == null, error);
+        log.info("백필 완료: records={}, readings={}, skipped={}, elapsed={}ms",
+                records, readings, skipped, result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * NDJSON 한 줄을 측정값 목록으로 변환한다. 형식이 잘못되었거나 'time' 이 없으면 빈 목록을 반환한다.
+     * <p>실시간 수집과 달리 수신 시각을 타임스탬프로 쓸 수 없으므로, 단일 숫자 페이로드처럼
+     * 타임스탬프가 명시되지 않은 레코드는 적재하지 않고 건너뛴다.
+     */
+    private List<Reading> parseLine(ReadingParser readingParser, JsonNode line) {
+        JsonNode topicNode = line.get("topic");
+        String topic = topicNode != null && topicNode.isTextual() ? topicNode.textValue() : null;
+        JsonNode payload = line.path("payload");
+        if (topic == null || topic.isBlank() || payload.isMissingNode() || payload.isNull()) {
+            return List.of();
+        }
+        try {
+            JsonNode root = payload.isTextual() ? payloadReader.readTree(payload.textValue()) : payload;
+            if (root == null || !root.isObject() || !root.path("time").isNumber()) {
+                log.debug("타임스탬프 없는 백필 레코드 건너뜀: topic={}", topic);
+                return List.of();
+            }
+            return readingParser.parse(topic, root);
+        } catch (IOException e) {
+            log.debug("백필 레코드 건너뜀: topic={}", topic, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 한 레코드의 측정값에 대해 임계값 룰과 복합 룰을 평가해 초과로 판정된 측정값 수를 반환한다.
+     * 실시간 수집과 같이 복합 룰이 충족되면 레코드의 모든 측정값을 초과로 센다. 임계값은 토픽별로 한 번만 조회한다.
+     */
+    private int countTriggered(List<Reading> readings, Map<String, Optional<Threshold>> thresholds,
+                               CompositeRuleService compositeRules) {
+        List<CompositeRule> triggeredRules = compositeRules.evaluate(readings);
+        if (!triggeredRules.isEmpty()) {
+            return readings.size();
+        }
+        Reading first = readings.get(0);
+        Threshold threshold = thresholds.computeIfAbsent(first.getTopic(), t ->
+                ruleCacheService.getThreshold(
+                        first.getMeasurement(),
+                        first.getTags().get("companyDomain"),
+                        first.getTags().getOrDefault("deviceId", "UNKNOWN"))).orElse(null);
+        if (threshold == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Reading reading : readings) {
+            if (ruleEngine.evaluate(reading.getValue(), threshold)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int flush(List<Reading> batch) throws InterruptedException {
+        int size = batch.size();
+        if (size > 0) {
+            sinkDispatcher.publishBlocking(List.copyOf(batch));
+            batch.clear();
+        }
+        return size;
+    }
+}
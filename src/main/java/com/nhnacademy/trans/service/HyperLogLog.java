@@ -0,0 +1,83 @@
+package com.nhnacademy.trans.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 고유 원소 수(cardinality)를 고정 메모리로 추정하는 HyperLogLog.
+ * <p>
+ * 2^precision 개의 레지스터를 사용하며 표준 오차는 약 1.04 / sqrt(2^precision) 이다.
+ * 레지스터 갱신은 CAS 로 수행되어 여러 스레드에서 락 없이 호출할 수 있다.
+ */
+public class HyperLogLog {
+
+    private final int precision;
+    private final int registerCount;
+    private final AtomicIntegerArray registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("precision 은 4 ~ 18 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+        this.registers = new AtomicIntegerArray(registerCount);
+    }
+
+    /**
+     * 원소를 추가한다.
+     *
+     * @param value 원소
+     */
+    public void offer(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        int current;
+        while ((current = registers.get(index)) < rank) {
+            if (registers.compareAndSet(index, current, rank)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 고유 원소 수 추정치를 반환한다.
+     *
+     * @return 추정 cardinality
+     */
+    public long cardinality() {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < registerCount; i++) {
+            int r = registers.get(i);
+            sum += 1.0 / (1L << r);
+            if (r == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / registerCount);
+        double estimate = alpha * registerCount * registerCount / sum;
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            // 작은 범위 보정 (linear counting)
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a 후 MurmurHash3 fmix64 로 비트 확산).
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
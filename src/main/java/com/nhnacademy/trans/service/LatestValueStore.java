@@ -0,0 +1,155 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.LatestValue;
+import com.nhnacademy.trans.domain.SeriesKey;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시계열별 최신 값(값, 타임스탬프, 임계값 초과 여부)을 메모리에 보관하는 저장소.
+ * <p>
+ * {@link SeriesRegistry}가 부여한 ID를 인덱스로 하는 기본형 배열에 값을 저장한다.
+ * 쓰기는 ID 구간별 락으로 직렬화하고, 읽기는 버전(seqlock) 검사만으로 락 없이 수행한다.
+ * 대시보드 등에서 InfluxDB 조회 없이 현재 상태를 읽기 위해 사용한다.
+ */
+@Component
+public class LatestValueStore {
+
+    /**
+     * 쓰기 락 스트라이프 수 (2의 거듭제곱).
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    private final SeriesRegistry seriesRegistry;
+
+    private final double[] values;
+    private final long[] timestamps;
+    private final boolean[] breached;
+
+    /**
+     * 슬롯별 버전. 홀수이면 쓰기 중, 0이면 아직 기록되지 않은 슬롯이다.
+     */
+    private final AtomicLongArray versions;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public LatestValueStore(SeriesRegistry seriesRegistry) {
+        this.seriesRegistry = seriesRegistry;
+        int capacity = seriesRegistry.capacity();
+        this.values = new double[capacity];
+        this.timestamps = new long[capacity];
+        this.breached = new boolean[capacity];
+        this.versions = new AtomicLongArray(capacity);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 시계열의 최신 값을 기록한다. 기존 값보다 오래된 타임스탬프는 무시한다.
+     *
+     * @param topic      MQTT 토픽
+     * @param field      필드 이름
+     * @param time       타임스탬프(ms)
+     * @param value      값
+     * @param isBreached 임계값 초과 여부
+     */
+    public void record(String topic, String field, long time, double value, boolean isBreached) {
+        record(seriesRegistry.intern(topic, field), time, value, isBreached);
+    }
+
+    /**
+     * 시계열 ID로 최신 값을 기록한다.
+     *
+     * @param id         시계열 ID ({@link SeriesRegistry#NO_ID}이면 무시)
+     * @param time       타임스탬프(ms)
+     * @param value      값
+     * @param isBreached 임계값 초과 여부
+     */
+    public void record(int id, long time, double value, boolean isBreached) {
+        if (id == SeriesRegistry.NO_ID) {
+            return;
+        }
+        synchronized (locks[id & (LOCK_STRIPES - 1)]) {
+            if (versions.get(id) != 0 && time < timestamps[id]) {
+                return;
+            }
+            versions.incrementAndGet(id);
+            VarHandle.releaseFence();
+            values[id] = value;
+            timestamps[id] = time;
+            breached[id] = isBreached;
+            versions.incrementAndGet(id);
+        }
+    }
+
+    /**
+     * 시계열 ID의 최신 값을 읽는다.
+     *
+     * @param id 시계열 ID
+     * @return 최신 값 또는 기록된 적이 없으면 {@code null}
+     */
+    public LatestValue get(int id) {
+        SeriesKey key = seriesRegistry.key(id);
+        if (key == null) {
+            return null;
+        }
+        double value;
+        long time;
+        boolean isBreached;
+        long version;
+        do {
+            version = versions.get(id);
+            if (version == 0) {
+                return null;
+            }
+            value = values[id];
+            time = timestamps[id];
+            isBreached = breached[id];
+            VarHandle.acquireFence();
+        } while ((version & 1) != 0 || versions.get(id) != version);
+
+        return new LatestValue(
+                key.getTags().get("origin"),
+                key.getTags().get("companyDomain"),
+                key.getTags().get("building"),
+                key.getTags().get("place"),
+                key.getTags().get("deviceId"),
+                key.getTags().get("measurement"),
+                key.getField(),
+                value,
+                time,
+                isBreached);
+    }
+
+    /**
+     * 필터 조건에 맞는 모든 시계열의 최신 값을 조회한다. null 인 필터는 무시한다.
+     *
+     * @param companyDomain companyDomain 필터
+     * @param building      building 필터
+     * @param place         place 필터
+     * @return 최신 값 목록
+     */
+    public List<LatestValue> find(String companyDomain, String building, String place) {
+        List<LatestValue> result = new ArrayList<>();
+        int size = seriesRegistry.size();
+        for (int id = 0; id < size; id++) {
+            SeriesKey key = seriesRegistry.key(id);
+            if (key == null
+                    || !key.matches("companyDomain", companyDomain)
+                    || !key.matches("building", building)
+                    || !key.matches("place", place)) {
+                continue;
+            }
+            LatestValue latest = get(id);
+            if (latest != null) {
+                result.add(latest);
+            }
+        }
+        return result;
+    }
+}
@@ -1,36 +1,56 @@
 package com.nhnacademy.trans.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hivemq.client.mqtt.MqttClient;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
+import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscribe;
+import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscription;
+import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3SubscriptionBuilder;
+import com.nhnacademy.trans.AnomalyDetector;
 import com.nhnacademy.trans.RuleEngine;
+import com.nhnacademy.trans.config.MqttSubscriptionProperties;
+import com.nhnacademy.trans.config.MqttSubscriptionProperties.Subscription;
 import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.PayloadFormat;
+import com.nhnacademy.trans.domain.Reading;
 import com.nhnacademy.trans.domain.Threshold;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import com.nhnacademy.trans.sink.SinkDispatcher;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * MQTT로 수신된 센서 데이터를 처리하고 InfluxDB에 저장하거나 임계값 초과 시 알림을 수행하는 서비스.
  * <p>
- * - MQTT 브로커에 연결하여 지정된 토픽을 구독합니다.
+ * - MQTT 브로커에 연결하여 설정된 구독 패턴({@link MqttSubscriptionProperties})을 모두 구독하고,
+ *   메시지마다 {@link TopicRouter}로 패턴별 처리 옵션(룰, 버킷, 압축, 형식)을 정합니다.
  * - 수신된 메시지를 파싱하여 룰 엔진을 통해 임계값을 평가합니다.
  * - 임계값 초과 시 로그 또는 알림 서비스를 호출합니다.
- * - 모든 메시지를 InfluxDB에 기록합니다.
+ * - 모든 메시지를 등록된 싱크(InfluxDB, 파일 아카이브 등)에 기록합니다.
+ * - 선택적으로 EWMA 기반 이상치 탐지를 수행합니다.
+ * - 시계열별 최신 값을 {@link LatestValueStore}에 갱신합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MqttIngestionService {
 
+    /** 페이로드가 없는 메시지용 빈 버퍼. */
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
     /**
      * MQTT 브로커 포트.
      * */
@@ -44,20 +64,35 @@ public class MqttIngestionService {
     private String serverHost;
 
     private final RuleEngine ruleEngine;
-    private final InfluxDBService influxDBService;
     private final RuleCacheService ruleCacheService;
+    private final CompositeRuleService compositeRuleService;
+    private final PayloadDecoder payloadDecoder;
+    private final SinkDispatcher sinkDispatcher;
+    private final LatestValueStore latestValueStore;
+    private final TrafficStatsService trafficStatsService;
+
+    /** 선택적 이상치 탐지 단계 ({@code anomaly.enabled=true} 일 때만 존재). */
+    private final Optional<AnomalyDetector> anomalyDetector;
+
+    private final MqttSubscriptionProperties subscriptionProperties;
 
-    /** JSON 파싱을 위한 ObjectMapper. */
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    /** 토픽 → 구독 패턴 라우터. */
+    private TopicRouter<Subscription> router;
 
     /** 비동기 MQTT 클라이언트. */
     private Mqtt3AsyncClient client;
 
+    /** 룰 위반 시 알림을 남길지 여부. 워밍업처럼 실제 수신이 아닌 메시지를 처리할 때만 끈다. */
+    private boolean alerting = true;
+
     /**
-     * Bean 초기화 후 실행되며, MQTT 브로커에 연결하고 토픽을 구독한다.
+     * MQTT 브로커에 연결한다. 구독은 하지 않는다.
+     * <p>{@link StartupService}가 다른 연결 설정과 병렬로 호출하며,
+     * 룰 적재와 워밍업이 끝난 뒤 {@link #subscribe()}를 호출한다.
+     *
+     * @return 연결 완료 시 완료되는 future
      */
-    @PostConstruct
-    public void init() {
+    public CompletableFuture<Void> connect() {
         this.client = MqttClient.builder()
                 .useMqttVersion3()
                 .identifier("mqtt-ingestion-service")
@@ -65,68 +100,242 @@ public class MqttIngestionService {
                 .serverPort(port)
                 .buildAsync();
 
-        client.connectWith()
+        return client.connectWith()
                 .cleanSession(true)
                 .send()
-                .whenComplete((connAck, throwable) -> {
+                .thenAccept(connAck -> log.info("MQTT 연결 완료: {}:{}", serverHost, port));
+    }
+
+    /**
+     * 구독 패턴으로 토픽 라우터를 만든다. 필터 형식이 잘못되었거나, 일부만 겹치는 패턴이 있으면 기동 시 실패한다.
+     * <p>일부만 겹치는 두 패턴(예: {@code a/+/c}, {@code a/b/#})은 둘 다 구독해야 하므로 브로커가 같은 메시지를
+     * 두 번 보낼 수 있다. 두 패턴을 모두 포함하는 패턴을 추가하면 포함된 패턴은 라우팅에만 쓰이므로 허용된다.
+     */
+    @PostConstruct
+    public void init() {
+        List<Subscription> subscriptions = subscriptionProperties.effectiveSubscriptions();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.getQos() != null && MqttQos.fromCode(subscription.getQos()) == null) {
+                throw new IllegalArgumentException("잘못된 QoS: " + subscription.displayName() + "=" + subscription.getQos());
+            }
+        }
+        List<String> patterns = subscriptions.stream().map(Subscription::getFilter).toList();
+        this.router = new TopicRouter<>(patterns, subscriptions, subscriptionProperties.getRouteCacheSize());
+        rejectPartialOverlaps(patterns, TopicRouter.uncovered(patterns));
+    }
+
+    /**
+     * 룰은 그대로 평가하되 알림(임계값 초과, 복합 룰)은 남기지 않도록 한다. 워밍업용 인스턴스에서 사용한다.
+     */
+    void disableAlerts() {
+        this.alerting = false;
+    }
+
+    /**
+     * 설정된 패턴을 한 번에 구독하여 메시지 수신을 시작한다. {@link #connect()} 완료 후 호출해야 한다.
+     * 수신된 메시지는 하나의 콜백으로 모이고, 토픽 라우터가 처리 옵션을 정한다.
+     * <p>
+     * 브로커는 겹치는 구독마다 같은 메시지를 따로 보낼 수 있으므로, 다른 패턴에 완전히 포함되는 패턴은
+     * 구독하지 않고 라우팅에만 사용한다. (포함하는 패턴은 포함된 패턴 중 가장 높은 QoS 로 구독)
+     * 일부만 겹치는 패턴은 {@link #init()}에서 거부하므로 구독하는 패턴끼리는 겹치지 않는다.
+     */
+    public void subscribe() {
+        List<Subscription> subscriptions = subscriptionProperties.effectiveSubscriptions();
+        List<String> patterns = subscriptions.stream().map(Subscription::getFilter).toList();
+        List<Integer> kept = TopicRouter.uncovered(patterns);
+
+        List<Mqtt3Subscription> filters = new ArrayList<>(kept.size());
+        for (int i : kept) {
+            Mqtt3SubscriptionBuilder.Complete builder = Mqtt3Subscription.builder().topicFilter(patterns.get(i));
+            Integer qos = subscribedQos(subscriptions, i);
+            if (qos != null) {
+                builder = builder.qos(MqttQos.fromCode(qos));
+            }
+            filters.add(builder.build());
+        }
+        List<String> subscribed = kept.stream().map(patterns::get).toList();
+        client.subscribe(Mqtt3Subscribe.builder().addSubscriptions(filters).build(), this::handleMessage)
+                .whenComplete((subAck, throwable) -> {
                     if (throwable != null) {
-                        log.error("MQTT 연결 실패", throwable);
-                        return;
+                        log.error("MQTT 구독 실패", throwable);
+                    } else {
+                        log.info("MQTT 구독 완료: {} (패턴 {})", subscribed,
+                                subscriptions.stream().map(Subscription::displayName).toList());
                     }
-
-                    client.subscribeWith()
-                            .topicFilter("+/s/+/b/+/p/server_room/#")
-                            .callback(this::handleMessage)
-                            .send();
                 });
     }
 
+    /**
+     * 구독할 패턴의 QoS. 포함된 패턴 중 하나라도 비어 있으면 클라이언트 기본값(가장 높은 QoS 2)을 쓴다.
+     */
+    private static Integer subscribedQos(List<Subscription> subscriptions, int index) {
+        String filter = subscriptions.get(index).getFilter();
+        int max = -1;
+        for (Subscription subscription : subscriptions) {
+            if (!TopicRouter.covers(filter, subscription.getFilter())) {
+                continue;
+            }
+            if (subscription.getQos() == null) {
+                return null;
+            }
+            max = Math.max(max, subscription.getQos());
+        }
+        return max;
+    }
+
+    /**
+     * 구독할 패턴끼리 겹치면 예외를 던진다.
+     */
+    private static void rejectPartialOverlaps(List<String> patterns, List<Integer> kept) {
+        for (int a = 0; a < kept.size(); a++) {
+            for (int b = a + 1; b < kept.size(); b++) {
+                String first = patterns.get(kept.get(a));
+                String second = patterns.get(kept.get(b));
+                if (TopicRouter.overlaps(first, second)) {
+                    throw new IllegalArgumentException("구독 패턴이 일부 겹쳐 같은 메시지가 두 번 수신될 수 있습니다: "
+                            + first + ", " + second + " (두 패턴을 모두 포함하는 패턴을 추가하세요)");
+                }
+            }
+        }
+    }
+
     /**
      * MQTT 메시지를 수신했을 때 호출되는 콜백 메서드.
      * <ol>
-     *   <li>토픽과 페이로드를 문자열로 변환합니다.</li>
-     *   <li>페이로드가 단일 값일 경우 JSON 형태로 변환합니다.</li>
-     *   <li>RuleCacheService를 통해 임계값을 조회하고 RuleEngine으로 평가합니다.</li>
-     *   <li>임계값 초과 시 알림 로그를 출력합니다.</li>
-     *   <li>InfluxDBService를 통해 데이터를 저장합니다.</li>
+     *   <li>토픽 라우터로 일치하는 구독 패턴(처리 옵션)을 찾습니다.</li>
+     *   <li>토픽 접미사로 페이로드 형식을 확인하고 트래픽 통계에 집계합니다.</li>
+     *   <li>페이로드 바이트를 문자열 변환 없이 측정값 목록으로 디코딩합니다.
+     *       (JSON, CBOR, MessagePack, packed / 패턴에 지정된 형식과 압축)</li>
+     *   <li>패턴에서 룰이 켜져 있으면 RuleCacheService를 통해 임계값을 조회하고 모든 필드 값을 RuleEngine으로 평가합니다.</li>
+     *   <li>CompositeRuleService로 여러 필드를 조합한 복합 룰을 평가합니다.</li>
+     *   <li>임계값 초과 또는 복합 룰 충족 시 알림 로그를 출력합니다.</li>
+     *   <li>패턴에서 룰이 켜져 있으면 이상치 탐지기(선택)에 값을 반영하고, 최신 값 저장소를 갱신합니다.</li>
+     *   <li>SinkDispatcher를 통해 InfluxDB 등 등록된 싱크로 전달합니다. (패턴에 버킷이 지정되면 그 버킷)</li>
      * </ol>
      *
      * @param publish 수신된 MQTT Publish 메시지
      */
     private void handleMessage(Mqtt3Publish publish) {
         try {
-            String topic = publish.getTopic().toString();
-            String payload = StandardCharsets.UTF_8.decode(publish.getPayload().get()).toString();
+            handle(publish.getTopic().toString(), publish.getPayload().orElse(EMPTY));
+        } catch (Exception e) {
+            log.error("MQTT 메시지 처리 중 오류", e);
+        }
+    }
 
+    /**
+     * 토픽과 페이로드 한 건을 수집 경로 전체로 처리한다.
+     * <p>{@link WarmUpService}가 임시 인스턴스로 같은 경로를 실행할 때도 사용한다.
+     *
+     * @param topic   MQTT 토픽
+     * @param payload 페이로드 바이트
+     * @return 싱크로 전달한 측정값 수
+     * @throws IOException 페이로드 형식이 잘못된 경우
+     */
+    int handle(String topic, ByteBuffer payload) throws IOException {
+        Subscription subscription = router.route(topic).orElse(null);
+        if (subscription == null) {
+            log.debug("일치하는 구독 패턴 없음: {}", topic);
+            return 0;
+        }
+        // 토픽 접미사로 페이로드 형식이 지정되었으면 접미사를 떼어낸 토픽을 사용
+        PayloadFormat format = PayloadFormat.fromTopicSuffix(topic);
+        if (format != null) {
+            topic = topic.substring(0, topic.lastIndexOf('/'));
+        } else {
+            format = subscription.getFormat();
+        }
+        trafficStatsService.record(topic);
 
-            // 데이터 타입 및 도메인 파싱
-            String type = extractDataType(topic);
-            String companyDomain = extractCompanyDomain(topic);
+        // 데이터 타입 및 도메인 파싱
+        String type = extractDataType(topic);
+        String companyDomain = extractCompanyDomain(topic);
+        String sensorId = extractSensorId(topic);
 
-            // 단일 숫자 페이로드인 경우 JSON 형태로 변환
-            if (payload.split(",").length == 1) {
-                Map<String, Object> payloadMap = new HashMap<>();
-                payloadMap.put("time", System.currentTimeMillis());
-                payloadMap.put("value", payload);
-                payload = objectMapper.writeValueAsString(payloadMap);
-            }
+        // 페이로드 바이트를 측정값 목록으로 디코딩 (JSON/CBOR/MessagePack/packed)
+        List<Reading> readings = payloadDecoder.decode(topic, payload, format,
+                subscription.getCompression());
+        if (readings.isEmpty()) {
+            return 0;
+        }
+        if (subscription.getBucket() != null) {
+            readings = withBucket(readings, subscription.getBucket());
+        }
 
-            String sensorId = extractSensorId(topic);
+        boolean[] breached = subscription.isRules()
+                ? evaluateRules(topic, type, companyDomain, sensorId, readings)
+                : new boolean[readings.size()];
+        // 이상치 탐지(룰이 켜진 패턴만) 및 최신 값 저장소 갱신
+        recordSeries(readings, breached, subscription.isRules());
+        // 싱크(InfluxDB 등)로 전달
+        sinkDispatcher.publish(readings);
+        return readings.size();
+    }
 
-            Optional<Threshold> threshold = ruleCacheService.getThreshold(type, companyDomain, sensorId);
-            String sensorValue = payload.split(":")[2];
+    /**
+     * 임계값 룰과 복합 룰을 평가한다.
+     * <p>
+     * 임계값은 토픽(장치·measurement)당 하나이며, 여러 필드를 담은 메시지는 모든 필드 값을 같은 임계값으로 평가한다.
+     * 복합 룰이 충족되면 메시지의 모든 측정값을 초과로 표시한다.
+     *
+     * @return 측정값별 임계값 초과 또는 복합 룰 충족 여부 (readings 와 같은 순서)
+     */
+    private boolean[] evaluateRules(String topic, String type, String companyDomain, String sensorId,
+                                    List<Reading> readings) {
+        boolean[] breached = new boolean[readings.size()];
+        Threshold threshold = ruleCacheService.getThreshold(type, companyDomain, sensorId).orElse(null);
+        if (threshold != null) {
+            for (int i = 0; i < breached.length; i++) {
+                Reading reading = readings.get(i);
+                breached[i] = ruleEngine.evaluate(reading.getValue(), threshold);
+                if (breached[i] && alerting) {
+                    log.warn("임계값 초과 알림: {}, field={}, value={}", type, reading.getField(), reading.getValue());
+                    // 알림 전송 로직 추가 가능
+                }
+            }
+        }
+        // 여러 필드를 조합한 복합 룰 평가
+        List<CompositeRule> triggered = compositeRuleService.evaluate(readings);
+        if (alerting) {
+            for (CompositeRule rule : triggered) {
+                log.warn("복합 룰 알림: {}, rule={}, expression={}", topic, rule.getId(), rule.getExpression());
+            }
+        }
+        if (!triggered.isEmpty()) {
+            Arrays.fill(breached, true);
+        }
+        return breached;
+    }
 
-            boolean isTriggered = ruleEngine.evaluate(sensorValue, threshold.orElse(null));
+    /**
+     * 측정값의 저장 버킷을 구독 패턴의 버킷으로 바꾼다.
+     */
+    private static List<Reading> withBucket(List<Reading> readings, String bucket) {
+        List<Reading> routed = new ArrayList<>(readings.size());
+        for (Reading reading : readings) {
+            routed.add(reading.withBucket(bucket));
+        }
+        return routed;
+    }
 
-            if (isTriggered) {
-                log.warn("임계값 초과 알림: {}, value={}", type, sensorValue);
-                // 알림 전송 로직 추가 가능
+    /**
+     * 측정값을 시계열별로 이상치 탐지기에 반영하고 최신 값 저장소에 기록한다.
+     *
+     * @param readings 파싱된 측정값 목록
+     * @param breached 측정값별 룰 위반 여부
+     * @param detect   이상치 탐지 여부 (구독 패턴의 rules 옵션)
+     */
+    private void recordSeries(List<Reading> readings, boolean[] breached, boolean detect) {
+        for (int i = 0; i < readings.size(); i++) {
+            Reading reading = readings.get(i);
+            int seriesId = reading.getSeriesId();
+            boolean isAnomalous = detect && anomalyDetector.isPresent()
+                    && anomalyDetector.get().evaluate(seriesId, reading.getValue());
+            if (isAnomalous) {
+                log.warn("이상치 탐지 알림: {}, field={}, value={}",
+                        reading.getTopic(), reading.getField(), reading.getValue());
             }
-            // InfluxDB에 데이터 저장
-            influxDBService.save(topic, payload);
-
-        } catch (Exception e) {
-            log.error("MQTT 메시지 처리 중 오류", e);
+            latestValueStore.record(seriesId, reading.getTime(), reading.getValue(), breached[i] || isAnomalous);
         }
     }
 
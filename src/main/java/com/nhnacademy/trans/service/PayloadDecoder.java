@@ -0,0 +1,169 @@
+package com.nhnacademy.trans.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.nhnacademy.trans.config.PackedPayloadProperties;
+import com.nhnacademy.trans.domain.PayloadCompression;
+import com.nhnacademy.trans.domain.PayloadFormat;
+import com.nhnacademy.trans.domain.Reading;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * MQTT 페이로드 바이트를 문자열 변환 없이 {@link Reading} 목록으로 디코딩한다.
+ * <p>
+ * 형식은 다음 순서로 결정한다.
+ * <ol>
+ *   <li>토픽 접미사 (예: .../e/cpu/cbor) - 호출자가 {@link PayloadFormat#fromTopicSuffix(String)}로 전달</li>
+ *   <li>헤더 바이트 (0x01 packed, 0x02 CBOR, 0x03 MessagePack) - 헤더는 디코딩 전에 제거된다</li>
+ *   <li>첫 바이트가 CBOR 맵(0xA0~0xBF) 또는 MessagePack 맵(0x80~0x8F, 0xDE, 0xDF)이면 해당 형식</li>
+ *   <li>그 외에는 JSON 텍스트 (단일 숫자 포함)</li>
+ * </ol>
+ * 구독 패턴에 압축(gzip, deflate)이 지정되면 형식 판단 전에 압축을 푼다.
+ * 압축을 푼 크기는 {@code payload.max-inflated-bytes} 로 제한한다.
+ * JSON/CBOR/MessagePack 은 같은 {"time","value"} 구조를 {@link ReadingParser}의 스트리밍 파서로 읽는다.
+ */
+@Component
+public class PayloadDecoder {
+
+    private final ReadingParser readingParser;
+    private final PackedPayloadProperties packedPayloadProperties;
+
+    /**
+     * 압축을 푼 페이로드의 최대 크기(바이트). 넘으면 압축 폭탄으로 보고 거부한다.
+     */
+    private final int maxInflatedBytes;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final MessagePackFactory messagePackFactory = new MessagePackFactory();
+
+    public PayloadDecoder(
+            ReadingParser readingParser,
+            PackedPayloadProperties packedPayloadProperties,
+            @Value("${payload.max-inflated-bytes:1048576}") int maxInflatedBytes) {
+        this.readingParser = readingParser;
+        this.packedPayloadProperties = packedPayloadProperties;
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    /**
+     * 페이로드를 디코딩한다.
+     *
+     * @param topic   MQTT 토픽 (형식 접미사가 제거된 상태)
+     * @param payload 페이로드 바이트 (position/limit 은 변경하지 않는다)
+     * @param format  토픽 접미사로 지정된 형식, 없으면 null
+     * @return 파싱된 Reading 목록
+     * @throws IOException 형식이 잘못된 경우
+     */
+    public List<Reading> decode(String topic, ByteBuffer payload, PayloadFormat format) throws IOException {
+        return decode(topic, payload, format, PayloadCompression.NONE);
+    }
+
+    /**
+     * 압축된 페이로드를 풀어서 디코딩한다.
+     *
+     * @param topic       MQTT 토픽 (형식 접미사가 제거된 상태)
+     * @param payload     페이로드 바이트 (position/limit 은 변경하지 않는다)
+     * @param format      지정된 형식, 없으면 null
+     * @param compression 압축 형식
+     * @return 파싱된 Reading 목록
+     * @throws IOException 압축이나 형식이 잘못된 경우
+     */
+    public List<Reading> decode(String topic, ByteBuffer payload, PayloadFormat format,
+                                PayloadCompression compression) throws IOException {
+        ByteBuffer buf = compression == PayloadCompression.NONE || !payload.hasRemaining()
+                ? payload.duplicate()
+                : inflate(payload.duplicate(), compression);
+        if (!buf.hasRemaining()) {
+            return List.of();
+        }
+        if (format == null) {
+            format = PayloadFormat.fromHeader(buf.get(buf.position()));
+            if (format != null) {
+                buf.position(buf.position() + 1);
+            } else {
+                format = sniff(buf.get(buf.position()));
+            }
+        }
+        return switch (format) {
+            case PACKED -> decodePacked(topic, buf);
+            case CBOR -> decodeTokens(topic, cborFactory, buf);
+            case MSGPACK -> decodeTokens(topic, messagePackFactory, buf);
+            case JSON -> decodeTokens(topic, jsonFactory, buf);
+        };
+    }
+
+    private ByteBuffer inflate(ByteBuffer buf, PayloadCompression compression) throws IOException {
+        InputStream in = new ByteBufferBackedInputStream(buf);
+        try (InputStream inflater = compression == PayloadCompression.GZIP
+                ? new GZIPInputStream(in)
+                : new InflaterInputStream(in)) {
+            byte[] bytes = inflater.readNBytes(maxInflatedBytes + 1);
+            if (bytes.length > maxInflatedBytes) {
+                throw new IOException("압축을 푼 페이로드가 " + maxInflatedBytes + " 바이트를 넘습니다");
+            }
+            return ByteBuffer.wrap(bytes);
+        }
+    }
+
+    /**
+     * 헤더 바이트가 없을 때 첫 바이트로 형식을 추정한다.
+     */
+    private static PayloadFormat sniff(byte first) {
+        int b = first & 0xFF;
+        if (b >= 0xA0 && b <= 0xBF) {
+            return PayloadFormat.CBOR;
+        }
+        if ((b >= 0x80 && b <= 0x8F) || b == 0xDE || b == 0xDF) {
+            return PayloadFormat.MSGPACK;
+        }
+        return PayloadFormat.JSON;
+    }
+
+    private List<Reading> decodeTokens(String topic, JsonFactory factory, ByteBuffer buf) throws IOException {
+        try (JsonParser parser = factory.createParser(new ByteBufferBackedInputStream(buf))) {
+            return readingParser.parse(topic, parser);
+        }
+    }
+
+    /**
+     * packed 형식: int64 타임스탬프(ms) + N 개의 float64, 모두 little-endian.
+     */
+    private List<Reading> decodePacked(String topic, ByteBuffer buf) throws IOException {
+        int length = buf.remaining();
+        if (length < Long.BYTES * 2 || length % Double.BYTES != 0) {
+            throw new IOException("packed 페이로드 길이가 잘못되었습니다: " + length);
+        }
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        long time = buf.getLong();
+        int count = buf.remaining() / Double.BYTES;
+
+        String measurement = readingParser.tags(topic).get("measurement");
+        List<String> names = packedPayloadProperties.getFields().get(measurement);
+        List<Reading> readings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            readings.add(readingParser.reading(topic, fieldName(names, i, count), time, buf.getDouble()));
+        }
+        return readings;
+    }
+
+    private static String fieldName(List<String> names, int index, int count) {
+        if (names != null && index < names.size()) {
+            return names.get(index);
+        }
+        return count == 1 ? ReadingParser.VALUE_FIELD : ReadingParser.VALUE_FIELD + index;
+    }
+}
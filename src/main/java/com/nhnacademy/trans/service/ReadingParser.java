@@ -0,0 +1,157 @@
+package com.nhnacademy.trans.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.trans.domain.Reading;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MQTT 토픽과 페이로드를 {@link Reading} 목록으로 변환하는 파서.
+ * <p>
+ * 페이로드는 JSON {"time":&lt;ms&gt;,"value":&lt;number|object&gt;} 이거나 단일 숫자이다.
+ * 'value'가 객체이면 필드마다 하나의 Reading 을, 단일 값이면 "value" 필드 하나를 만든다.
+ * 단일 숫자 페이로드는 수신 시각을 타임스탬프로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadingParser {
+
+    /**
+     * 단일 값 페이로드의 필드 이름.
+     */
+    public static final String VALUE_FIELD = "value";
+
+    private final SeriesRegistry seriesRegistry;
+
+    /** JSON 파싱을 위한 ObjectMapper. */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 토픽과 페이로드를 파싱한다.
+     *
+     * @param topic   MQTT 토픽
+     * @param payload JSON 문자열 또는 단일 숫자 문자열
+     * @return 파싱된 Reading 목록
+     * @throws IOException JSON 형식이 잘못된 경우
+     */
+    public List<Reading> parse(String topic, String payload) throws IOException {
+        String trimmed = payload.trim();
+        if (!trimmed.startsWith("{")) {
+            return List.of(reading(topic, VALUE_FIELD, System.currentTimeMillis(), Double.parseDouble(trimmed)));
+        }
+        return parse(topic, objectMapper.readTree(trimmed));
+    }
+
+    /**
+     * 토픽과 이미 파싱된 JSON 페이로드를 Reading 목록으로 변환한다.
+     *
+     * @param topic MQTT 토픽
+     * @param root  {"time":&lt;ms&gt;,"value":&lt;number|object&gt;} 형태의 JSON 노드
+     * @return 파싱된 Reading 목록
+     */
+    public List<Reading> parse(String topic, JsonNode root) {
+        long time = root.path("time").asLong();
+        JsonNode valueNode = root.path("value");
+        if (!valueNode.isObject()) {
+            return List.of(reading(topic, VALUE_FIELD, time, valueNode.asDouble()));
+        }
+        List<Reading> readings = new ArrayList<>(valueNode.size());
+        valueNode.fields().forEachRemaining(entry ->
+                readings.add(reading(topic, entry.getKey(), time, entry.getValue().asDouble())));
+        return readings;
+    }
+
+    /**
+     * 토큰 스트림(JSON, CBOR, MessagePack 등 Jackson 파서)에서 바로 Reading 목록을 읽는다.
+     * <p>트리나 문자열을 만들지 않으며, 루트가 숫자(또는 숫자 문자열)이면 단일 값으로 취급한다.
+     *
+     * @param topic  MQTT 토픽
+     * @param parser 페이로드 파서 (아직 토큰을 읽지 않은 상태)
+     * @return 파싱된 Reading 목록
+     * @throws IOException 형식이 잘못된 경우
+     */
+    public List<Reading> parse(String topic, JsonParser parser) throws IOException {
+        JsonToken root = parser.nextToken();
+        if (root == null) {
+            return List.of();
+        }
+        if (root.isNumeric() || root == JsonToken.VALUE_STRING) {
+            return List.of(reading(topic, VALUE_FIELD, System.currentTimeMillis(), scalar(parser)));
+        }
+        if (root != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "지원하지 않는 페이로드 루트: " + root);
+        }
+
+        long time = 0;
+        List<String> fields = new ArrayList<>(4);
+        List<Double> values = new ArrayList<>(4);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("time".equals(name)) {
+                time = parser.getValueAsLong();
+            } else if ("value".equals(name) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    fields.add(parser.currentName());
+                    parser.nextToken();
+                    values.add(scalar(parser));
+                }
+            } else if ("value".equals(name)) {
+                fields.add(VALUE_FIELD);
+                values.add(scalar(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        List<Reading> readings = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            readings.add(reading(topic, fields.get(i), time, values.get(i)));
+        }
+        return readings;
+    }
+
+    /**
+     * 현재 토큰을 double 로 읽는다. 숫자가 아니면 자식 토큰을 건너뛰고 0을 반환한다.
+     */
+    private static double scalar(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsDouble();
+    }
+
+    /**
+     * 토픽의 캐시된 태그 맵을 반환한다.
+     *
+     * @param topic MQTT 토픽
+     * @return 태그 맵
+     */
+    public Map<String, String> tags(String topic) {
+        return seriesRegistry.tags(topic);
+    }
+
+    /**
+     * 단일 Reading 을 생성한다. 태그는 토픽별로 캐시된 맵을 공유한다.
+     *
+     * @param topic MQTT 토픽
+     * @param field 필드 이름
+     * @param time  타임스탬프(ms)
+     * @param value 측정값
+     * @return Reading 인스턴스
+     */
+    public Reading reading(String topic, String field, long time, double value) {
+        Map<String, String> tags = seriesRegistry.tags(topic);
+        return new Reading(seriesRegistry.intern(topic, field), topic, tags, field, time, value);
+    }
+}
@@ -0,0 +1,191 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.SeriesKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 토픽 + 필드 조합을 정수 시계열 ID로 intern 하는 레지스트리.
+ * <p>
+ * 시계열별 상태를 기본형 배열에 보관하는 컴포넌트들이 이 ID를 배열 인덱스로 사용한다.
+ * 토픽은 최초 등장 시 한 번만 파싱되며, 이후에는 맵 조회만으로 ID를 얻는다.
+ * 최대 시계열 수를 넘는 신규 시계열에는 {@code -1}을 반환한다.
+ * <p>
+ * 용량이 찬 뒤에 처음 보는 토픽과 필드는 캐시하지 않으므로(태그는 매번 파싱),
+ * 시계열이 폭증해도 레지스트리 메모리는 최대 시계열 수에 비례하는 크기를 넘지 않는다.
+ */
+@Component
+@Slf4j
+public class SeriesRegistry {
+
+    /**
+     * ID 미할당을 나타내는 값.
+     */
+    public static final int NO_ID = -1;
+
+    /**
+     * 최대 시계열 수.
+     */
+    private final int capacity;
+
+    /**
+     * 토픽별 태그와 필드 → ID 맵.
+     */
+    private final Map<String, TopicEntry> topics = new ConcurrentHashMap<>();
+
+    /**
+     * ID → SeriesKey 역방향 조회 배열.
+     */
+    private final AtomicReferenceArray<SeriesKey> keys;
+
+    /**
+     * 다음에 할당할 ID.
+     */
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * 용량 초과 경고를 이미 남겼는지 여부.
+     */
+    private final AtomicBoolean fullWarned = new AtomicBoolean();
+
+    public SeriesRegistry(@Value("${series.max-count:100000}") int capacity) {
+        this.capacity = capacity;
+        this.keys = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 토픽과 필드에 해당하는 시계열 ID를 반환한다. 처음 보는 조합이면 새 ID를 할당한다.
+     *
+     * @param topic MQTT 토픽
+     * @param field 필드 이름
+     * @return 시계열 ID 또는 용량 초과 시 {@link #NO_ID}
+     */
+    public int intern(String topic, String field) {
+        TopicEntry entry = entry(topic);
+        if (entry == null) {
+            return NO_ID;
+        }
+        Integer id = entry.fields.get(field);
+        if (id != null) {
+            return id;
+        }
+        if (isFull()) {
+            warnFull();
+            return NO_ID;
+        }
+        synchronized (entry) {
+            id = entry.fields.get(field);
+            if (id != null) {
+                return id;
+            }
+            int allocated = allocate(topic, field, entry.tags);
+            // 용량 초과로 할당하지 못한 필드는 캐시하지 않는다.
+            if (allocated != NO_ID) {
+                entry.fields.put(field, allocated);
+            }
+            return allocated;
+        }
+    }
+
+    /**
+     * 토픽의 파싱된 태그 맵을 반환한다. 토픽은 최초 조회 시 한 번만 파싱된다.
+     *
+     * @param topic MQTT 토픽
+     * @return 변경 불가능한 태그 맵
+     */
+    public Map<String, String> tags(String topic) {
+        TopicEntry entry = entry(topic);
+        return entry != null ? entry.tags : Map.copyOf(TopicParser.parseTags(topic));
+    }
+
+    /**
+     * 토픽 항목을 반환한다. 용량이 찬 뒤 처음 보는 토픽이면 등록하지 않고 {@code null}을 반환한다.
+     */
+    private TopicEntry entry(String topic) {
+        TopicEntry entry = topics.get(topic);
+        // ID 가 없는 토픽(tags 만 조회)도 용량만큼만 등록한다.
+        if (entry != null || isFull() || topics.size() >= capacity) {
+            return entry;
+        }
+        return topics.computeIfAbsent(topic, t -> new TopicEntry(TopicParser.parseTags(t)));
+    }
+
+    private boolean isFull() {
+        return nextId.get() >= capacity;
+    }
+
+    /**
+     * 용량 초과 경고는 한 번만 남긴다. (초과 시계열은 캐시하지 않아 메시지마다 호출되므로)
+     */
+    private void warnFull() {
+        if (fullWarned.compareAndSet(false, true)) {
+            log.warn("시계열 최대 개수({}) 초과: 이후 신규 시계열은 추적하지 않습니다.", capacity);
+        }
+    }
+
+    private int allocate(String topic, String field, Map<String, String> tags) {
+        int id = nextId.getAndUpdate(n -> n < capacity ? n + 1 : n);
+        if (id >= capacity) {
+            warnFull();
+            return NO_ID;
+        }
+        keys.set(id, new SeriesKey(id, topic, field, tags));
+        return id;
+    }
+
+    /**
+     * ID에 해당하는 SeriesKey를 반환한다.
+     *
+     * @param id 시계열 ID
+     * @return SeriesKey 또는 아직 등록되지 않았으면 {@code null}
+     */
+    public SeriesKey key(int id) {
+        return keys.get(id);
+    }
+
+    /**
+     * 지금까지 할당된 ID 개수 (0 ~ size-1 범위가 유효하다).
+     *
+     * @return 할당된 시계열 수
+     */
+    public int size() {
+        return Math.min(nextId.get(), capacity);
+    }
+
+    /**
+     * 최대 시계열 수.
+     *
+     * @return 용량
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 등록된 토픽 수 (용량이 찬 뒤에는 늘어나지 않는다).
+     *
+     * @return 토픽 수
+     */
+    public int topicCount() {
+        return topics.size();
+    }
+
+    /**
+     * 토픽 한 개의 파싱된 태그와 필드별 ID.
+     *
+     * @param tags   파싱된 태그 맵
+     * @param fields 필드 이름 → 시계열 ID
+     */
+    private record TopicEntry(Map<String, String> tags, Map<String, Integer> fields) {
+        TopicEntry(Map<String, String> tags) {
+            this(Map.copyOf(tags), new ConcurrentHashMap<>());
+        }
+    }
+}
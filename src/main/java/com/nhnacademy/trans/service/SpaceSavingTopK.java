@@ -0,0 +1,132 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.HeavyHitter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 알고리즘 기반 상위 K 빈도 추적기.
+ * <p>
+ * 고정된 개수의 카운터만 사용하며, 카운터가 가득 찬 상태에서 새 키가 들어오면
+ * 가장 작은 카운터를 교체하고 그 값을 오차로 기록한다.
+ * 카운터는 최소 힙으로 관리되어 갱신은 O(log capacity) 이다.
+ */
+public class SpaceSavingTopK {
+
+    private final int capacity;
+    private final String[] keys;
+    private final long[] counts;
+    private final long[] errors;
+
+    /**
+     * 키 → 힙 인덱스.
+     */
+    private final Map<String, Integer> positions;
+
+    private int size;
+
+    public SpaceSavingTopK(int capacity) {
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키의 출현을 1회 기록한다.
+     *
+     * @param key 추적할 키
+     */
+    public synchronized void offer(String key) {
+        Integer pos = positions.get(key);
+        if (pos != null) {
+            counts[pos]++;
+            siftDown(pos);
+            return;
+        }
+        if (size < capacity) {
+            keys[size] = key;
+            counts[size] = 1;
+            errors[size] = 0;
+            positions.put(key, size);
+            siftUp(size++);
+            return;
+        }
+        // 최솟값 카운터(루트)를 새 키로 교체
+        positions.remove(keys[0]);
+        long min = counts[0];
+        keys[0] = key;
+        counts[0] = min + 1;
+        errors[0] = min;
+        positions.put(key, 0);
+        siftDown(0);
+    }
+
+    /**
+     * 빈도 상위 항목을 반환한다.
+     *
+     * @param limit         최대 개수
+     * @param windowSeconds 초당 비율 계산에 사용할 구간 길이(초)
+     * @return 빈도 내림차순 목록
+     */
+    public synchronized List<HeavyHitter> top(int limit, double windowSeconds) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> counts[i]).reversed());
+        List<HeavyHitter> result = new ArrayList<>(Math.min(limit, size));
+        for (int i = 0; i < size && i < limit; i++) {
+            int idx = order[i];
+            result.add(new HeavyHitter(keys[idx], counts[idx], errors[idx],
+                    windowSeconds > 0 ? counts[idx] / windowSeconds : 0));
+        }
+        return result;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+            if (counts[i] <= counts[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String key = keys[a];
+        long count = counts[a];
+        long error = errors[a];
+        keys[a] = keys[b];
+        counts[a] = counts[b];
+        errors[a] = errors[b];
+        keys[b] = key;
+        counts[b] = count;
+        errors[b] = error;
+        positions.put(keys[a], a);
+        positions.put(keys[b], b);
+    }
+}
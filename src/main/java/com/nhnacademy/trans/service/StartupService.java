@@ -0,0 +1,146 @@
+package com.nhnacademy.trans.service;
+
+import com.influxdb.client.InfluxDBClient;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 애플리케이션 기동 시 외부 연결과 워밍업을 조율하는 서비스.
+ * <ol>
+ *   <li>MQTT 연결, Redis 연결, InfluxDB 연결 확인, 룰 적재({@link RuleCacheService#reloadAllRules()},
+ *       {@link CompositeRuleService#reload()})를 병렬로 시작한다.</li>
+ *   <li>룰이 메모리에 적재되면 {@link WarmUpService}로 실제 수집 경로를 워밍업한다.</li>
+ *   <li>연결 확인까지 끝나거나 제한 시간이 지나면 MQTT 토픽을 구독한다.</li>
+ * </ol>
+ * 구독 전에 룰 캐시와 JIT 가 준비되므로 배포 직후 지연 급증과 적체가 줄어든다.
+ * 준비 과정은 별도 스레드에서 수행하므로 ApplicationReadyEvent 스레드를 막지 않는다.
+ * 각 단계의 실패는 로그만 남기고 나머지 기동을 막지 않는다.
+ */
+@Service
+@Slf4j
+public class StartupService {
+
+    private final MqttIngestionService mqttIngestionService;
+    private final RuleCacheService ruleCacheService;
+    private final CompositeRuleService compositeRuleService;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final InfluxDBClient influxDBClient;
+    private final WarmUpService warmUpService;
+
+    /**
+     * 구독 전 준비 단계를 기다리는 최대 시간(초).
+     */
+    private final long timeoutSeconds;
+
+    public StartupService(
+            MqttIngestionService mqttIngestionService,
+            RuleCacheService ruleCacheService,
+            CompositeRuleService compositeRuleService,
+            RedisConnectionFactory redisConnectionFactory,
+            InfluxDBClient influxDBClient,
+            WarmUpService warmUpService,
+            @Value("${startup.timeout-seconds:60}") long timeoutSeconds) {
+        this.mqttIngestionService = mqttIngestionService;
+        this.ruleCacheService = ruleCacheService;
+        this.compositeRuleService = compositeRuleService;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.influxDBClient = influxDBClient;
+        this.warmUpService = warmUpService;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 별도 스레드에서 연결 설정, 룰 적재, 워밍업을 수행하고 MQTT 구독을 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofPlatform().name("startup").daemon(true).start(this::prepareAndSubscribe);
+    }
+
+    /**
+     * 준비 단계를 제한 시간 안에서 기다린 뒤 구독한다.
+     */
+    void prepareAndSubscribe() {
+        long begin = System.currentTimeMillis();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        CompletableFuture<Void> mqtt = mqttIngestionService.connect();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletableFuture<Void> redis = step("redis", this::pingRedis, executor);
+            CompletableFuture<Void> influx = step("influxdb", this::pingInflux, executor);
+            CompletableFuture<Void> rules = step("rules", ruleCacheService::reloadAllRules, executor);
+            CompletableFuture<Void> compositeRules = step("composite-rules", compositeRuleService::reload, executor);
+
+            // 룰이 메모리 캐시에 올라온 뒤 워밍업해야 실제 룰 조회 경로가 JIT 된다.
+            await(CompletableFuture.allOf(rules, compositeRules), deadline);
+            warmUpService.run();
+            await(CompletableFuture.allOf(redis, influx), deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("기동 준비 단계 오류", e);
+        } finally {
+            // 제한 시간을 넘긴 단계는 기다리지 않고 백그라운드에서 마저 끝나도록 둔다.
+            executor.shutdown();
+        }
+
+        mqtt.whenComplete((v, throwable) -> {
+            if (throwable != null) {
+                log.error("MQTT 연결 실패", throwable);
+                return;
+            }
+            mqttIngestionService.subscribe();
+            log.info("MQTT 구독 시작 (기동 준비 {}ms)", System.currentTimeMillis() - begin);
+        });
+    }
+
+    /**
+     * 마감 시각까지 future 를 기다린다. 시간이 지나면 경고만 남기고 돌아온다.
+     */
+    private void await(CompletableFuture<Void> future, long deadline) throws InterruptedException, ExecutionException {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("기동 준비 단계가 {}초 안에 끝나지 않아 기다리지 않고 진행합니다.", timeoutSeconds);
+        }
+    }
+
+    private CompletableFuture<Void> step(String name, Runnable task, ExecutorService executor) {
+        return CompletableFuture.runAsync(() -> {
+            long begin = System.currentTimeMillis();
+            task.run();
+            log.info("기동 단계 완료: {} ({}ms)", name, System.currentTimeMillis() - begin);
+        }, executor).exceptionally(throwable -> {
+            log.warn("기동 단계 실패: {}", name, throwable);
+            return null;
+        });
+    }
+
+    private void pingRedis() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.ping();
+        }
+    }
+
+    private void pingInflux() {
+        if (!Boolean.TRUE.equals(influxDBClient.ping())) {
+            throw new IllegalStateException("InfluxDB ping 실패");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.nhnacademy.trans.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MQTT 토픽을 태그 맵으로 변환하는 유틸리티 클래스.
+ * <p>
+ * 토픽은 'data' 또는 'server_data'로 시작하며, 이어서 태그 키(letter)/값 쌍이 구성된다.
+ * (예: server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host01/e/cpu)
+ */
+public final class TopicParser {
+
+    /**
+     * 서버 데이터 토픽의 origin 값.
+     */
+    public static final String SERVER_DATA = "server_data";
+
+    /**
+     * 센서 데이터 토픽의 origin 값.
+     */
+    public static final String SENSOR_DATA = "sensor_data";
+
+    private TopicParser() {
+    }
+
+    /**
+     * 토픽을 파싱하여 태그 맵을 생성한다.
+     * <p>
+     * 첫 토큰으로부터 {@code origin} 태그를, 이후 키/값 쌍으로부터 나머지 태그를 만든다.
+     *
+     * @param topic MQTT 토픽
+     * @return 태그 키-값 맵 (예: companyDomain, building, place, deviceId, measurement)
+     */
+    public static Map<String, String> parseTags(String topic) {
+        String[] tokens = topic.split("/");
+        Map<String, String> tags = new HashMap<>();
+        tags.put("origin", tokens[0].equals(SERVER_DATA) ? SERVER_DATA : SENSOR_DATA);
+        for (int i = 1; i < tokens.length - 1; i += 2) {
+            tags.put(getTokenName(tokens[i]), tokens[i + 1]);
+        }
+        return tags;
+    }
+
+    /**
+     * 태그 맵을 만들지 않고 토픽에서 태그 값 하나만 꺼낸다. (수집 경로의 통계 집계용)
+     *
+     * @param topic  MQTT 토픽
+     * @param letter 태그 식별자 (예: "s")
+     * @return 태그 값, 없으면 null
+     */
+    public static String tagValue(String topic, String letter) {
+        // 첫 토큰(origin) 다음부터 키/값 쌍
+        int keyStart = topic.indexOf('/') + 1;
+        while (keyStart > 0) {
+            int keyEnd = topic.indexOf('/', keyStart);
+            if (keyEnd < 0) {
+                return null;
+            }
+            int valueEnd = topic.indexOf('/', keyEnd + 1);
+            if (valueEnd < 0) {
+                valueEnd = topic.length();
+            }
+            if (keyEnd - keyStart == letter.length() && topic.startsWith(letter, keyStart)) {
+                return topic.substring(keyEnd + 1, valueEnd);
+            }
+            keyStart = valueEnd + 1;
+            if (keyStart > topic.length()) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 태그 키(letter)로부터 변수명을 반환합니다.
+     * @param token 태그 식별자 (예: "s", "b", "p", "d", "n", "g", "e")
+     * @return 매핑된 변수명 또는 입력값이 매핑되지 않은 경우 원본 토큰
+     */
+    public static String getTokenName(String token) {
+        return switch (token.trim()) {
+            case "s" -> "companyDomain";
+            case "b" -> "building";
+            case "p" -> "place";
+            case "d" -> "deviceId";
+            case "n" -> "location";
+            case "g" -> "gatewayId";
+            case "e" -> "measurement";
+            default -> token;
+        };
+    }
+}
@@ -0,0 +1,219 @@
+package com.nhnacademy.trans.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MQTT 토픽 필터(+, # 와일드카드) 목록을 미리 트라이로 컴파일해 두고, 구체적인 토픽을 일치하는 대상으로 보내는 라우터.
+ * <p>
+ * 트라이는 토픽 레벨 단위 노드로 구성되며, 탐색 비용은 패턴 수가 아니라 토픽 깊이와 와일드카드 분기 수에 비례한다.
+ * 여러 필터가 일치하면 먼저 선언된 필터의 대상을 반환한다.
+ * 결정 결과(일치하지 않는 경우 포함)는 토픽별로 캐시되어, 같은 토픽의 이후 메시지는 해시 조회 한 번으로 끝난다.
+ * 캐시가 최대 크기를 넘으면 비우고 다시 채운다.
+ * <p>
+ * 와일드카드 규칙은 MQTT 3.1.1 과 같다. '#' 은 상위 레벨 자체도 포함하며(a/# 은 a 와 일치),
+ * '$' 로 시작하는 토픽은 첫 레벨이 와일드카드인 필터와 일치하지 않는다.
+ *
+ * @param <T> 라우팅 대상
+ */
+public class TopicRouter<T> {
+
+    private final Node root = new Node();
+    private final List<T> targets;
+    private final int cacheSize;
+    private final Map<String, Optional<T>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param filters   토픽 필터 목록 (앞에 있을수록 우선)
+     * @param targets   필터별 대상 (filters 와 같은 순서)
+     * @param cacheSize 토픽별 결과 캐시 최대 크기
+     * @throws IllegalArgumentException 필터 형식이 잘못된 경우
+     */
+    public TopicRouter(List<String> filters, List<T> targets, int cacheSize) {
+        if (filters.size() != targets.size()) {
+            throw new IllegalArgumentException("필터와 대상 수가 다릅니다");
+        }
+        this.targets = List.copyOf(targets);
+        this.cacheSize = cacheSize;
+        for (int i = 0; i < filters.size(); i++) {
+            insert(filters.get(i), i);
+        }
+    }
+
+    /**
+     * 토픽과 일치하는 대상을 찾는다.
+     *
+     * @param topic 구체적인 토픽 (와일드카드 없음)
+     * @return 먼저 선언된 필터의 대상, 일치하는 필터가 없으면 empty
+     */
+    public Optional<T> route(String topic) {
+        Optional<T> cached = cache.get(topic);
+        if (cached != null) {
+            return cached;
+        }
+        int index = match(root, topic, 0, topic.startsWith("$"));
+        Optional<T> result = index == Integer.MAX_VALUE ? Optional.empty() : Optional.of(targets.get(index));
+        if (cache.size() >= cacheSize) {
+            cache.clear();
+        }
+        cache.put(topic, result);
+        return result;
+    }
+
+    /**
+     * @return 캐시된 토픽 수
+     */
+    public int cachedTopics() {
+        return cache.size();
+    }
+
+    /**
+     * 다른 필터에 완전히 포함되지 않는 필터만 고른다. 같은 필터가 여러 번 있으면 앞의 것만 남긴다.
+     * <p>브로커는 겹치는 구독마다 메시지를 따로 보낼 수 있으므로, 구독할 때는 이 목록만 사용하고
+     * 라우팅에는 전체 필터를 사용한다.
+     *
+     * @param filters 토픽 필터 목록
+     * @return 남길 필터의 번호 (오름차순)
+     */
+    public static List<Integer> uncovered(List<String> filters) {
+        List<Integer> kept = new ArrayList<>(filters.size());
+        for (int i = 0; i < filters.size(); i++) {
+            boolean covered = false;
+            for (int j = 0; j < filters.size() && !covered; j++) {
+                if (i == j || !covers(filters.get(j), filters.get(i))) {
+                    continue;
+                }
+                // 서로 포함하면(같은 필터) 앞의 것을 남긴다.
+                covered = j < i || !covers(filters.get(i), filters.get(j));
+            }
+            if (!covered) {
+                kept.add(i);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * filter 가 other 와 일치하는 모든 토픽과 일치하는지 확인한다.
+     *
+     * @param filter 포함하는 쪽 필터
+     * @param other  포함되는 쪽 필터
+     * @return 포함하면 {@code true}
+     */
+    public static boolean covers(String filter, String other) {
+        String[] outer = filter.split("/", -1);
+        String[] inner = other.split("/", -1);
+        for (int i = 0; ; i++) {
+            if (i == outer.length) {
+                return i == inner.length;
+            }
+            String level = outer[i];
+            // '$' 토픽은 첫 레벨 와일드카드와 일치하지 않는다.
+            boolean dollar = i == 0 && i < inner.length && inner[0].startsWith("$");
+            if (level.equals("#")) {
+                return !dollar;
+            }
+            if (i == inner.length || inner[i].equals("#")) {
+                return false;
+            }
+            if (level.equals("+")) {
+                if (dollar) {
+                    return false;
+                }
+            } else if (!level.equals(inner[i])) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 서로 포함하지 않지만 같은 토픽과 일치할 수 있는 필터 쌍인지 확인한다.
+     *
+     * @return 겹칠 수 있으면 {@code true}
+     */
+    public static boolean overlaps(String filter, String other) {
+        String[] a = filter.split("/", -1);
+        String[] b = other.split("/", -1);
+        for (int i = 0; ; i++) {
+            if ((i < a.length && a[i].equals("#")) || (i < b.length && b[i].equals("#"))) {
+                return true;
+            }
+            if (i == a.length || i == b.length) {
+                return a.length == b.length;
+            }
+            if (!a[i].equals("+") && !b[i].equals("+") && !a[i].equals(b[i])) {
+                return false;
+            }
+        }
+    }
+
+    private void insert(String filter, int index) {
+        if (filter == null || filter.isEmpty()) {
+            throw new IllegalArgumentException("토픽 필터가 비어 있습니다");
+        }
+        String[] levels = filter.split("/", -1);
+        Node node = root;
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            if (level.equals("#")) {
+                if (i != levels.length - 1) {
+                    throw new IllegalArgumentException("'#' 은 마지막 레벨에만 올 수 있습니다: " + filter);
+                }
+                node.multiLevel = Math.min(node.multiLevel, index);
+                return;
+            }
+            if (level.equals("+")) {
+                if (node.singleLevel == null) {
+                    node.singleLevel = new Node();
+                }
+                node = node.singleLevel;
+            } else {
+                if (level.contains("+") || level.contains("#")) {
+                    throw new IllegalArgumentException("와일드카드는 레벨 전체를 차지해야 합니다: " + filter);
+                }
+                node = node.children.computeIfAbsent(level, l -> new Node());
+            }
+        }
+        node.terminal = Math.min(node.terminal, index);
+    }
+
+    /**
+     * topic[from..] 를 node 아래에서 일치시켜 가장 작은 필터 번호를 반환한다. 없으면 Integer.MAX_VALUE.
+     *
+     * @param from           현재 레벨 시작 위치 (topic.length() + 1 이면 레벨이 더 없음)
+     * @param noWildcardHere 현재 레벨에서 와일드카드를 허용하지 않음 ('$' 토픽의 첫 레벨)
+     */
+    private int match(Node node, String topic, int from, boolean noWildcardHere) {
+        // '#' 은 남은 레벨이 없어도(상위 레벨 자체) 일치한다.
+        int best = noWildcardHere ? Integer.MAX_VALUE : node.multiLevel;
+        if (from > topic.length()) {
+            return Math.min(best, node.terminal);
+        }
+        int end = topic.indexOf('/', from);
+        if (end < 0) {
+            end = topic.length();
+        }
+        Node literal = node.children.get(topic.substring(from, end));
+        if (literal != null) {
+            best = Math.min(best, match(literal, topic, end + 1, false));
+        }
+        if (node.singleLevel != null && !noWildcardHere) {
+            best = Math.min(best, match(node.singleLevel, topic, end + 1, false));
+        }
+        return best;
+    }
+
+    /**
+     * 트라이 노드. 각 값은 이 위치에서 끝나는 필터 중 가장 작은 번호 (없으면 Integer.MAX_VALUE).
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node singleLevel;
+        private int terminal = Integer.MAX_VALUE;
+        private int multiLevel = Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,209 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.HeavyHitter;
+import com.nhnacademy.trans.domain.TrafficReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 수집 트래픽을 고정 메모리 스트리밍 스케치로 집계하는 서비스.
+ * <ul>
+ *   <li>Space-Saving 상위 K: 시계열(토픽)별, 테넌트(companyDomain)별 메시지 수</li>
+ *   <li>HyperLogLog: 전체 및 테넌트별 고유 시계열 수 (InfluxDB series 증가 원인 파악용)</li>
+ * </ul>
+ * 상위 K 집계는 고정 길이 구간 단위로 교체되며, 고유 시계열 수는 서비스 시작 이후 누적된다.
+ * 테넌트별 HLL 은 {@code traffic.max-tenants} 개까지만 만들고, 그 뒤에 처음 보이는 테넌트는
+ * {@value #OTHER_TENANTS} 하나로 합쳐 센다. (테넌트 수가 늘어도 메모리가 고정된다)
+ * <p>
+ * 수집 스레드 간 경합을 줄이기 위해 상위 K 스케치는 키 해시로 나눈 여러 스트라이프에 나누어 기록하고
+ * {@link #report(int)} 에서 합친다. 같은 키는 항상 같은 스트라이프에 들어가므로 합칠 때 오차가 늘지 않는다.
+ * 테넌트는 토픽 문자열에서 바로 꺼내며 {@link SeriesRegistry}에 등록하지 않는다.
+ */
+@Component
+public class TrafficStatsService {
+
+    /**
+     * 전체 고유 시계열 HLL 정밀도 (약 0.8% 오차).
+     */
+    private static final int GLOBAL_PRECISION = 14;
+
+    /**
+     * 테넌트별 고유 시계열 HLL 정밀도 (약 3.3% 오차).
+     */
+    private static final int TENANT_PRECISION = 10;
+
+    /**
+     * 테넌트별 HLL 한도를 넘은 테넌트를 합쳐 보고하는 키.
+     */
+    static final String OTHER_TENANTS = "(other)";
+
+    /**
+     * 상위 K 스케치 스트라이프 수 (2의 거듭제곱).
+     */
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    /**
+     * 상위 K 추적 카운터 수.
+     */
+    private final int topK;
+
+    /**
+     * 집계 구간 길이(ms).
+     */
+    private final long windowMillis;
+
+    /**
+     * 개별 HLL 을 두는 최대 테넌트 수. 동시에 새 테넌트가 들어오면 스레드 수만큼 넘을 수 있다.
+     */
+    private final int maxTenants;
+
+    private final HyperLogLog distinctSeries = new HyperLogLog(GLOBAL_PRECISION);
+    private final Map<String, HyperLogLog> distinctSeriesByTenant = new ConcurrentHashMap<>();
+    private final HyperLogLog distinctSeriesOfOtherTenants = new HyperLogLog(TENANT_PRECISION);
+
+    private volatile Window current;
+    private volatile Window previous;
+
+    public TrafficStatsService(
+            @Value("${traffic.top-k:100}") int topK,
+            @Value("${traffic.window-seconds:60}") long windowSeconds,
+            @Value("${traffic.max-tenants:1000}") int maxTenants) {
+        this.topK = topK;
+        this.windowMillis = windowSeconds * 1000;
+        this.maxTenants = maxTenants;
+        this.current = new Window(System.currentTimeMillis(), topK);
+    }
+
+    /**
+     * 수신된 메시지 1건을 집계한다.
+     *
+     * @param topic MQTT 토픽
+     */
+    public void record(String topic) {
+        record(topic, System.currentTimeMillis());
+    }
+
+    void record(String topic, long now) {
+        Window window = current;
+        if (now - window.start >= windowMillis) {
+            window = rotate(now);
+        }
+        String tenant = TopicParser.tagValue(topic, "s");
+        if (tenant == null) {
+            tenant = "UNKNOWN";
+        }
+
+        window.total.increment();
+        window.offer(window.series, topic);
+        window.offer(window.tenants, tenant);
+
+        distinctSeries.offer(topic);
+        tenantSeries(tenant).offer(topic);
+    }
+
+    /**
+     * 테넌트의 고유 시계열 HLL 을 찾는다. 한도에 이르면 새 테넌트는 기타 HLL 로 보낸다.
+     */
+    private HyperLogLog tenantSeries(String tenant) {
+        HyperLogLog hll = distinctSeriesByTenant.get(tenant);
+        if (hll != null) {
+            return hll;
+        }
+        if (distinctSeriesByTenant.size() >= maxTenants) {
+            return distinctSeriesOfOtherTenants;
+        }
+        return distinctSeriesByTenant.computeIfAbsent(tenant, t -> new HyperLogLog(TENANT_PRECISION));
+    }
+
+    /**
+     * 직전에 완료된 구간의 통계를 반환한다. 완료된 구간이 없으면 진행 중인 구간을 반환한다.
+     *
+     * @param limit 상위 항목 최대 개수
+     * @return 트래픽 통계
+     */
+    public TrafficReport report(int limit) {
+        return report(limit, System.currentTimeMillis());
+    }
+
+    TrafficReport report(int limit, long now) {
+        // 유휴 기간 뒤에도 오래된 구간을 돌려주지 않도록 먼저 구간을 교체한다.
+        Window window = rotate(now);
+        long seconds;
+        if (previous != null) {
+            window = previous;
+            seconds = windowMillis / 1000;
+        } else {
+            seconds = Math.max(1, (now - window.start) / 1000);
+        }
+
+        Map<String, Long> byTenant = new TreeMap<>();
+        distinctSeriesByTenant.forEach((tenant, hll) -> byTenant.put(tenant, hll.cardinality()));
+        long others = distinctSeriesOfOtherTenants.cardinality();
+        if (others > 0) {
+            byTenant.put(OTHER_TENANTS, others);
+        }
+
+        return new TrafficReport(
+                window.start,
+                seconds,
+                window.total.sum(),
+                Window.top(window.series, limit, seconds),
+                Window.top(window.tenants, limit, seconds),
+                distinctSeries.cardinality(),
+                byTenant);
+    }
+
+    private synchronized Window rotate(long now) {
+        Window window = current;
+        if (now - window.start < windowMillis) {
+            return window;
+        }
+        // 직전 구간 동안 메시지가 없었으면(유휴) 직전 구간은 빈 구간이다.
+        previous = now - window.start < 2 * windowMillis ? window : new Window(now - windowMillis, topK);
+        current = new Window(now, topK);
+        return current;
+    }
+
+    /**
+     * 한 집계 구간의 스케치.
+     */
+    private static final class Window {
+        private final long start;
+        private final LongAdder total = new LongAdder();
+        private final SpaceSavingTopK[] series = new SpaceSavingTopK[STRIPES];
+        private final SpaceSavingTopK[] tenants = new SpaceSavingTopK[STRIPES];
+
+        private Window(long start, int topK) {
+            this.start = start;
+            for (int i = 0; i < STRIPES; i++) {
+                series[i] = new SpaceSavingTopK(topK);
+                tenants[i] = new SpaceSavingTopK(topK);
+            }
+        }
+
+        private void offer(SpaceSavingTopK[] stripes, String key) {
+            int h = key.hashCode();
+            stripes[(h ^ (h >>> 16)) & (STRIPES - 1)].offer(key);
+        }
+
+        /**
+         * 스트라이프별 상위 항목을 합친다. 스트라이프끼리 키가 겹치지 않으므로 정렬만 하면 된다.
+         */
+        private static List<HeavyHitter> top(SpaceSavingTopK[] stripes, int limit, long seconds) {
+            List<HeavyHitter> merged = new ArrayList<>();
+            for (SpaceSavingTopK stripe : stripes) {
+                merged.addAll(stripe.top(limit, seconds));
+            }
+            merged.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed());
+            return merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.nhnacademy.trans.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.trans.AnomalyDetector;
+import com.nhnacademy.trans.EwmaAnomalyDetector;
+import com.nhnacademy.trans.RuleEngine;
+import com.nhnacademy.trans.config.MqttSubscriptionProperties;
+import com.nhnacademy.trans.config.PackedPayloadProperties;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.domain.Reading;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import com.nhnacademy.trans.sink.InfluxDBSink;
+import com.nhnacademy.trans.sink.ReadingSink;
+import com.nhnacademy.trans.sink.SinkDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MQTT 구독 전 수집 경로를 미리 실행해 JIT 컴파일과 클래스 로딩을 끝내는 워밍업 서비스.
+ * <p>
+ * 녹화된 토픽/페이로드 코퍼스(NDJSON, 백필과 같은 {"topic","payload"} 형태)를 반복하며
+ * {@link MqttIngestionService#handle(String, ByteBuffer)}를 그대로 실행한다. 토픽 라우팅, 디코딩,
+ * 룰 조회(메모리 캐시)와 평가, 복합 룰, 이상치 탐지, 최신 값 저장, 싱크 디스패치, InfluxDB Point 직렬화까지
+ * 실제 클래스와 메서드를 거친다. 실제 상태(시계열 레지스트리, 최신 값, 이상치 상태, 싱크, 트래픽 통계)에는
+ * 영향을 주지 않도록 상태를 가진 구성 요소만 임시 인스턴스로 바꾸고, 룰은 읽기만 한다.
+ * 복합 룰은 토픽별 시계열 바인딩을 캐시하므로 {@link CompositeRuleService#detachedCopy()}로 평가하고,
+ * 코퍼스는 실제 토픽이므로 룰 위반 알림은 남기지 않는다.
+ */
+@Service
+@Slf4j
+public class WarmUpService {
+
+    /**
+     * 워밍업용 싱크 큐 크기. 가득 차면 버려지며 워밍업에는 영향이 없다.
+     */
+    private static final int QUEUE_CAPACITY = 16_384;
+
+    private final RuleEngine ruleEngine;
+    private final RuleCacheService ruleCacheService;
+    private final CompositeRuleService compositeRuleService;
+    private final MqttSubscriptionProperties subscriptionProperties;
+    private final Optional<AnomalyDetector> anomalyDetector;
+    private final PackedPayloadProperties packedPayloadProperties;
+    private final ResourceLoader resourceLoader;
+
+    /**
+     * 워밍업 사용 여부.
+     */
+    private final boolean enabled;
+
+    /**
+     * 코퍼스 위치 (Spring Resource 경로).
+     */
+    private final String corpusLocation;
+
+    /**
+     * 처리할 메시지 수 (코퍼스를 반복).
+     */
+    private final int iterations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public WarmUpService(
+            RuleEngine ruleEngine,
+            RuleCacheService ruleCacheService,
+            CompositeRuleService compositeRuleService,
+            MqttSubscriptionProperties subscriptionProperties,
+            Optional<AnomalyDetector> anomalyDetector,
+            PackedPayloadProperties packedPayloadProperties,
+            ResourceLoader resourceLoader,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.corpus:classpath:warmup/corpus.ndjson}") String corpusLocation,
+            @Value("${warmup.iterations:20000}") int iterations) {
+        this.ruleEngine = ruleEngine;
+        this.ruleCacheService = ruleCacheService;
+        this.compositeRuleService = compositeRuleService;
+        this.subscriptionProperties = subscriptionProperties;
+        this.anomalyDetector = anomalyDetector;
+        this.packedPayloadProperties = packedPayloadProperties;
+        this.resourceLoader = resourceLoader;
+        this.enabled = enabled;
+        this.corpusLocation = corpusLocation;
+        this.iterations = iterations;
+    }
+
+    /**
+     * 코퍼스를 반복 처리하여 수집 경로를 워밍업한다.
+     *
+     * @return 수집 경로를 끝까지 통과한 측정값 수
+     */
+    public long run() {
+        if (!enabled) {
+            return 0;
+        }
+        List<Message> corpus = loadCorpus();
+        if (corpus.isEmpty()) {
+            log.warn("워밍업 코퍼스가 비어 있습니다: {}", corpusLocation);
+            return 0;
+        }
+
+        long begin = System.currentTimeMillis();
+        SeriesRegistry seriesRegistry = new SeriesRegistry(Math.max(1024, corpus.size() * 16));
+        LineProtocolSink sink = new LineProtocolSink();
+        SinkDispatcher sinkDispatcher = new SinkDispatcher(List.of(sink), QUEUE_CAPACITY, 1, 1000, 10, 0);
+        MqttIngestionService ingestion = new MqttIngestionService(
+                ruleEngine,
+                ruleCacheService,
+                compositeRuleService.detachedCopy(),
+                new PayloadDecoder(new ReadingParser(seriesRegistry), packedPayloadProperties, 1 << 20),
+                sinkDispatcher,
+                new LatestValueStore(seriesRegistry),
+                new TrafficStatsService(16, 60, 16),
+                anomalyDetector.map(live -> new EwmaAnomalyDetector(seriesRegistry, 0.05, 3.0, 30, "", 0)),
+                subscriptionProperties);
+        ingestion.init();
+        ingestion.disableAlerts();
+
+        long readings = 0;
+        try {
+            for (int i = 0; i < iterations; i++) {
+                Message message = corpus.get(i % corpus.size());
+                try {
+                    readings += ingestion.handle(message.topic(), message.payload().duplicate());
+                } catch (IOException | RuntimeException e) {
+                    log.debug("워밍업 메시지 처리 실패: {}", message.topic(), e);
+                }
+            }
+        } finally {
+            sinkDispatcher.shutdown();
+        }
+        log.info("워밍업 완료: messages={}, readings={}, {}ms (checksum={})",
+                iterations, readings, System.currentTimeMillis() - begin, sink.checksum);
+        if (readings == 0) {
+            log.warn("워밍업 코퍼스가 구독 패턴과 일치하지 않아 수집 경로가 워밍업되지 않았습니다: {}", corpusLocation);
+        }
+        return readings;
+    }
+
+    /**
+     * 코퍼스를 토픽/페이로드 바이트 목록으로 읽는다.
+     */
+    private List<Message> loadCorpus() {
+        List<Message> corpus = new ArrayList<>();
+        Resource resource = resourceLoader.getResource(corpusLocation);
+        if (!resource.exists()) {
+            return corpus;
+        }
+        try (InputStream in = resource.getInputStream();
+             MappingIterator<JsonNode> it = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            while (it.hasNextValue()) {
+                JsonNode line = it.nextValue();
+                JsonNode payload = line.path("payload");
+                String text = payload.isObject() ? payload.toString() : payload.asText();
+                corpus.add(new Message(line.path("topic").asText(),
+                        ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer()));
+            }
+        } catch (IOException e) {
+            log.warn("워밍업 코퍼스 읽기 실패: {}", corpusLocation, e);
+        }
+        return corpus;
+    }
+
+    /**
+     * 코퍼스 메시지 한 건.
+     *
+     * @param topic   MQTT 토픽
+     * @param payload 페이로드 바이트
+     */
+    private record Message(String topic, ByteBuffer payload) {
+    }
+
+    /**
+     * 측정값을 InfluxDB line protocol 로 직렬화만 하고 버리는 워밍업용 싱크.
+     */
+    private static final class LineProtocolSink implements ReadingSink {
+
+        /** 직렬화 결과가 최적화로 제거되지 않도록 남기는 값. */
+        private long checksum;
+
+        @Override
+        public String name() {
+            return "warmup";
+        }
+
+        @Override
+        public void write(List<Reading> batch) {
+            for (Reading reading : batch) {
+                checksum += InfluxDBSink.buildPoint(reading).toLineProtocol().length();
+            }
+        }
+    }
+}
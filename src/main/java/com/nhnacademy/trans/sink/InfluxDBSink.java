@@ -0,0 +1,231 @@
+package com.nhnacademy.trans.sink;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.nhnacademy.trans.config.InfluxRoutingProperties;
+import com.nhnacademy.trans.config.InfluxRoutingProperties.Route;
+import com.nhnacademy.trans.config.MqttSubscriptionProperties;
+import com.nhnacademy.trans.domain.Reading;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 측정값 배치를 InfluxDB v2 에 저장하는 싱크.
+ * <p>
+ * 측정값의 companyDomain/origin 태그로 {@link InfluxRoutingProperties} 라우트를 찾아
+ * 라우트별 버킷/조직에 저장한다. 구독 패턴에서 버킷을 지정한 측정값({@link Reading#getBucket()})은
+ * 라우트 대신 그 버킷에 저장한다. (mqtt.subscriptions 에 설정된 버킷만 허용)
+ * 쓰기는 {@link WriteApiBlocking}으로 수행한다. 배치 구성, 재시도, 백프레셔는 {@link SinkDispatcher}가
+ * 담당하므로 InfluxDB 쓰기 실패는 예외로 디스패처에 전달되어 재시도와 실패 통계에 반영되며,
+ * 별도의 비동기 버퍼에서 조용히 버려지지 않는다.
+ * 모든 라우트는 {@link com.nhnacademy.trans.config.InfluxDBConfig}가 등록한
+ * 하나의 {@link InfluxDBClient}(HTTP 커넥션 풀)를 공유한다.
+ * <p>
+ * measurement 는 토픽의 'e' 태그, 필드는 Reading 의 필드 이름이며, 토픽 태그를 그대로 태그로 쓴다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "sink.influx.enabled", havingValue = "true", matchIfMissing = true)
+public class InfluxDBSink implements ReadingSink {
+
+    private final WriteApiBlocking writeApi;
+    private final InfluxRoutingProperties routing;
+
+    /**
+     * 일치하는 라우트가 없을 때 사용하는 기본 라우트 (influx.bucket / influx.org).
+     */
+    private final RouteWriter defaultWriter;
+
+    /**
+     * 설정된 라우트 → 저장 대상. 라우트별로 처음 일치하는 측정값이 들어올 때 생성된다.
+     */
+    private final Map<Route, RouteWriter> writers = new IdentityHashMap<>();
+
+    /**
+     * companyDomain → origin → 결정된 라우트 캐시.
+     */
+    private final Map<String, Map<String, RouteWriter>> resolved = new HashMap<>();
+
+    /**
+     * 구독 패턴에서 버킷을 직접 지정한 측정값용 버킷 → 저장 대상 (조직은 influx.org).
+     */
+    private final Map<String, RouteWriter> bucketWriters = new HashMap<>();
+
+    /**
+     * 측정값이 직접 지정할 수 있는 버킷 (구독 패턴의 bucket 옵션). 그 외 버킷은 테넌트 라우팅을 따른다.
+     */
+    private final Set<String> allowedBuckets;
+
+    private final AtomicBoolean unknownBucketWarned = new AtomicBoolean();
+
+    private final AtomicBoolean invalidReadingWarned = new AtomicBoolean();
+
+    /**
+     * measurement 나 필드 이름이 없어 Point 로 만들 수 없어 건너뛴 측정값 수.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    public InfluxDBSink(
+            InfluxDBClient influxDBClient,
+            InfluxRoutingProperties routing,
+            MqttSubscriptionProperties subscriptionProperties,
+            @Value("${influx.bucket}") String bucket,
+            @Value("${influx.org}") String org) {
+        this.writeApi = influxDBClient.getWriteApiBlocking();
+        this.routing = routing;
+        this.allowedBuckets = subscriptionProperties.getSubscriptions().stream()
+                .map(MqttSubscriptionProperties.Subscription::getBucket)
+                .filter(b -> b != null && !b.isBlank())
+                .collect(Collectors.toUnmodifiableSet());
+        this.defaultWriter = new RouteWriter("default", bucket, org);
+    }
+
+    @Override
+    public String name() {
+        return "influx";
+    }
+
+    /**
+     * 배치를 라우트별로 나누어 동기로 저장한다. Point 로 만들 수 없는 측정값은 배치 전체를 실패시키지 않도록
+     * 하나씩 건너뛰고 {@link #rejected()}에 센다. 모든 라우트에 쓰기를 시도한 뒤 실패가 있으면 예외를 던진다.
+     * (디스패처가 배치를 재시도하면 이미 저장된 라우트도 다시 쓰이지만, 같은 시리즈/시각의 포인트는 덮어써진다)
+     *
+     * @param batch 측정값 배치
+     */
+    @Override
+    public void write(List<Reading> batch) {
+        Map<RouteWriter, List<Point>> byRoute = new IdentityHashMap<>();
+        for (Reading reading : batch) {
+            if (!isValid(reading)) {
+                continue;
+            }
+            RouteWriter writer = reading.getBucket() != null && isAllowed(reading.getBucket())
+                    ? bucketWriters.computeIfAbsent(reading.getBucket(),
+                            b -> new RouteWriter("bucket:" + b, b, defaultWriter.org))
+                    : resolve(reading.getTags().get("companyDomain"), reading.getTags().get("origin"));
+            byRoute.computeIfAbsent(writer, w -> new ArrayList<>()).add(buildPoint(reading));
+        }
+        RuntimeException failure = null;
+        for (Map.Entry<RouteWriter, List<Point>> entry : byRoute.entrySet()) {
+            try {
+                entry.getKey().write(entry.getValue());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Point 로 만들 수 있는 측정값인지 확인한다. 토픽에 'e' 태그가 없으면 measurement 가 없다.
+     */
+    private boolean isValid(Reading reading) {
+        String measurement = reading.getMeasurement();
+        String field = reading.getField();
+        if (measurement != null && !measurement.isBlank() && field != null && !field.isBlank()) {
+            return true;
+        }
+        rejected.increment();
+        if (invalidReadingWarned.compareAndSet(false, true)) {
+            log.warn("measurement 또는 필드 이름이 없는 측정값 건너뜀: topic={}, field={}",
+                    reading.getTopic(), field);
+        }
+        return false;
+    }
+
+    /**
+     * 설정된 버킷인지 확인한다. 설정되지 않은 버킷마다 저장 대상이 생기지 않도록 테넌트 라우팅으로 돌린다.
+     */
+    private boolean isAllowed(String bucket) {
+        if (allowedBuckets.contains(bucket)) {
+            return true;
+        }
+        if (unknownBucketWarned.compareAndSet(false, true)) {
+            log.warn("설정되지 않은 버킷 지정 무시, 테넌트 라우팅으로 저장: {}", bucket);
+        }
+        return false;
+    }
+
+    /**
+     * companyDomain/origin 에 해당하는 라우트를 찾는다. 결과는 캐시된다.
+     */
+    private RouteWriter resolve(String companyDomain, String origin) {
+        String domain = companyDomain == null ? "" : companyDomain;
+        String dataOrigin = origin == null ? "" : origin;
+        return resolved.computeIfAbsent(domain, d -> new HashMap<>())
+                .computeIfAbsent(dataOrigin, o -> {
+                    for (Route route : routing.getRoutes()) {
+                        if (route.matches(domain, o)) {
+                            return writers.computeIfAbsent(route, r -> new RouteWriter(
+                                    r.getCompanyDomain() + (r.getOrigin() == null ? "" : "/" + r.getOrigin()),
+                                    r.getBucket(),
+                                    r.getOrg() == null || r.getOrg().isBlank() ? defaultWriter.org : r.getOrg()));
+                        }
+                    }
+                    return defaultWriter;
+                });
+    }
+
+    /**
+     * 단일 Point를 생성하는 헬퍼 메서드입니다.
+     *
+     * @param reading 측정값
+     * @return Point 인스턴스
+     */
+    public static Point buildPoint(Reading reading) {
+        return Point.measurement(reading.getMeasurement())
+                .addTags(reading.getTags())
+                .addField(reading.getField(), reading.getValue())
+                .time(reading.getTime(), WritePrecision.MS);
+    }
+
+    /**
+     * 라우트 하나의 버킷/조직.
+     */
+    private final class RouteWriter {
+        private final String name;
+        private final String bucket;
+        private final String org;
+
+        private RouteWriter(String name, String bucket, String org) {
+            this.name = name;
+            this.bucket = bucket;
+            this.org = org;
+            log.info("InfluxDB 라우트 생성: route={}, bucket={}, org={}", name, bucket, org);
+        }
+
+        private void write(List<Point> points) {
+            try {
+                writeApi.writePoints(bucket, org, points);
+            } catch (RuntimeException e) {
+                log.debug("InfluxDB 쓰기 실패: route={}, bucket={}", name, bucket, e);
+                throw e;
+            }
+        }
+    }
+}
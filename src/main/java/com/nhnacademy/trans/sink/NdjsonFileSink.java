@@ -0,0 +1,120 @@
+package com.nhnacademy.trans.sink;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.nhnacademy.trans.domain.Reading;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 측정값을 로컬 NDJSON 파일로 보관하는 롤링 아카이브 싱크.
+ * <p>
+ * 한 줄에 하나의 {"topic":..., "payload":{"time":&lt;ms&gt;,"value":&lt;number|object&gt;}} 를 기록하므로
+ * MQTT 로 받은 원본과 같은 형태로 다시 적재할 수 있다.
+ * 파일이 {@code sink.file.max-bytes} 를 넘거나 시간(hour)이 바뀌면 새 파일로 교체한다.
+ * <p>
+ * {@code sink.file.enabled=true} 일 때만 활성화된다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "sink.file.enabled", havingValue = "true")
+public class NdjsonFileSink implements ReadingSink {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * 아카이브 디렉터리.
+     */
+    private final Path directory;
+
+    /**
+     * 파일 하나의 최대 크기(byte).
+     */
+    private final long maxBytes;
+
+    private OutputStream out;
+    private Path currentFile;
+    private int currentHour = -1;
+
+    public NdjsonFileSink(
+            @Value("${sink.file.directory:./data/archive}") String directory,
+            @Value("${sink.file.max-bytes:268435456}") long maxBytes) {
+        this.directory = Path.of(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void write(List<Reading> batch) throws IOException {
+        rollIfNeeded();
+        try (JsonGenerator gen = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            gen.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            for (Reading reading : batch) {
+                gen.writeStartObject();
+                gen.writeStringField("topic", reading.getTopic());
+                gen.writeObjectFieldStart("payload");
+                gen.writeNumberField("time", reading.getTime());
+                if ("value".equals(reading.getField())) {
+                    gen.writeNumberField("value", reading.getValue());
+                } else {
+                    gen.writeObjectFieldStart("value");
+                    gen.writeNumberField(reading.getField(), reading.getValue());
+                    gen.writeEndObject();
+                }
+                gen.writeEndObject();
+                gen.writeEndObject();
+                gen.writeRaw('\n');
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        closeCurrent();
+    }
+
+    private void rollIfNeeded() throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        if (out != null && now.getHour() == currentHour && Files.size(currentFile) < maxBytes) {
+            return;
+        }
+        closeCurrent();
+        Files.createDirectories(directory);
+        currentFile = directory.resolve("readings-" + FILE_TIME.format(now) + ".ndjson");
+        currentHour = now.getHour();
+        out = new BufferedOutputStream(Files.newOutputStream(currentFile,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    private void closeCurrent() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("아카이브 파일 닫기 실패: {}", currentFile, e);
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.trans.sink;
+
+import com.nhnacademy.trans.domain.Reading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 측정값을 버리고 개수만 세는 싱크. 벤치마크 및 수집 경로 부하 측정용.
+ * <p>
+ * {@code sink.noop.enabled=true} 일 때만 활성화된다.
+ */
+@Component
+@ConditionalOnProperty(name = "sink.noop.enabled", havingValue = "true")
+public class NoopSink implements ReadingSink {
+
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    public String name() {
+        return "noop";
+    }
+
+    @Override
+    public void write(List<Reading> batch) {
+        count.add(batch.size());
+    }
+
+    /**
+     * 지금까지 받은 측정값 수.
+     *
+     * @return 측정값 수
+     */
+    public long count() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.trans.sink;
+
+import com.nhnacademy.trans.domain.Reading;
+
+import java.util.List;
+
+/**
+ * 파싱된 측정값 배치를 저장하는 싱크 SPI.
+ * <p>
+ * 각 싱크는 {@link SinkDispatcher}가 만든 전용 큐와 스레드에서 호출되므로
+ * 구현체는 스레드 안전할 필요가 없으며, 블로킹 I/O 를 수행해도 다른 싱크나 수집을 막지 않는다.
+ */
+public interface ReadingSink {
+
+    /**
+     * 로그와 통계에 사용할 싱크 이름.
+     *
+     * @return 싱크 이름
+     */
+    String name();
+
+    /**
+     * 측정값 배치를 저장한다. 예외를 던지면 디스패처가 재시도한다.
+     *
+     * @param batch 측정값 배치
+     * @throws Exception 저장 실패 시
+     */
+    void write(List<Reading> batch) throws Exception;
+
+    /**
+     * 저장할 수 없는 형식이라 배치에서 건너뛴 측정값 수. 디스패처 통계에 함께 노출된다.
+     *
+     * @return 건너뛴 측정값 수
+     */
+    default long rejected() {
+        return 0;
+    }
+
+    /**
+     * 싱크 종료 시 호출된다. 남은 버퍼를 비우고 자원을 해제한다.
+     */
+    default void close() {
+    }
+}
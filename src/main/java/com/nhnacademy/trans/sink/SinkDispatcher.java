@@ -0,0 +1,227 @@
+package com.nhnacademy.trans.sink;
+
+import com.nhnacademy.trans.domain.Reading;
+import com.nhnacademy.trans.domain.SinkStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 측정값 배치를 등록된 모든 {@link ReadingSink}로 병렬 전달하는 디스패처.
+ * <p>
+ * 싱크마다 전용 유한 큐와 워커 스레드를 두어 배치 크기 또는 플러시 주기 단위로 묶어 저장한다.
+ * 수집 경로의 {@link #publish(List)}는 큐가 가득 차면 해당 싱크에 대해서만 측정값을 버리므로
+ * 느린 싱크가 다른 싱크나 수집을 멈추지 않는다. 저장 실패 시 지수 백오프로 재시도하며,
+ * 재시도 한도를 넘은 배치는 버리고 통계에 기록한다.
+ * <p>
+ * 대량 적재용 {@link #publishBlocking(List)}는 싱크별 별도 백필 큐를 사용하며,
+ * 워커는 실시간 큐를 먼저 비우고 남는 배치 용량만 백필 큐로 채우므로 백필이 실시간 수집을 밀어내지 않는다.
+ */
+@Component
+@Slf4j
+public class SinkDispatcher {
+
+    private final List<SinkWorker> workers = new ArrayList<>();
+
+    public SinkDispatcher(
+            List<ReadingSink> sinks,
+            @Value("${sink.queue-capacity:100000}") int queueCapacity,
+            @Value("${sink.backfill-queue-capacity:50000}") int backfillQueueCapacity,
+            @Value("${sink.batch-size:5000}") int batchSize,
+            @Value("${sink.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${sink.max-retries:3}") int maxRetries) {
+        for (ReadingSink sink : sinks) {
+            SinkWorker worker = new SinkWorker(sink, queueCapacity, backfillQueueCapacity,
+                    batchSize, flushIntervalMs, maxRetries);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("싱크 활성화: {}", sinks.stream().map(ReadingSink::name).toList());
+    }
+
+    /**
+     * 측정값을 모든 싱크 큐에 넣는다. 블로킹하지 않으며, 큐가 가득 찬 싱크에서는 버려진다.
+     *
+     * @param readings 측정값 목록
+     */
+    public void publish(List<Reading> readings) {
+        for (SinkWorker worker : workers) {
+            worker.offer(readings);
+        }
+    }
+
+    /**
+     * 측정값을 모든 싱크의 백필 큐에 넣는다. 큐에 여유가 생길 때까지 기다리므로 버려지지 않는다.
+     * 실시간 수집이 아닌 대량 적재처럼 호출자가 싱크 속도에 맞춰야 하는 경우에 사용한다.
+     *
+     * @param readings 측정값 목록
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public void publishBlocking(List<Reading> readings) throws InterruptedException {
+        for (SinkWorker worker : workers) {
+            worker.put(readings);
+        }
+    }
+
+    /**
+     * 싱크별 처리 통계를 반환한다.
+     *
+     * @return 싱크 통계 목록
+     */
+    public List<SinkStats> stats() {
+        return workers.stream().map(SinkWorker::stats).toList();
+    }
+
+    /**
+     * 남은 큐를 비우고 싱크를 종료한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(SinkWorker::stop);
+    }
+
+    /**
+     * 싱크 하나의 큐와 워커 스레드.
+     */
+    private static final class SinkWorker implements Runnable {
+
+        /**
+         * 배치를 채우는 동안 실시간 큐를 기다리는 최대 시간. 이 간격으로 백필 큐도 확인한다.
+         */
+        private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+        private final ReadingSink sink;
+        private final BlockingQueue<Reading> queue;
+        private final BlockingQueue<Reading> backfillQueue;
+        private final int batchSize;
+        private final long flushIntervalMs;
+        private final int maxRetries;
+        private final Thread thread;
+
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder written = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failedBatches = new LongAdder();
+
+        private volatile boolean running = true;
+
+        private SinkWorker(ReadingSink sink, int queueCapacity, int backfillQueueCapacity,
+                           int batchSize, long flushIntervalMs, int maxRetries) {
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.backfillQueue = new ArrayBlockingQueue<>(backfillQueueCapacity);
+            this.batchSize = batchSize;
+            this.flushIntervalMs = flushIntervalMs;
+            this.maxRetries = maxRetries;
+            this.thread = new Thread(this, "sink-" + sink.name());
+            this.thread.setDaemon(true);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void offer(List<Reading> readings) {
+            for (Reading reading : readings) {
+                if (queue.offer(reading)) {
+                    accepted.increment();
+                } else {
+                    dropped.increment();
+                }
+            }
+        }
+
+        private void put(List<Reading> readings) throws InterruptedException {
+            for (Reading reading : readings) {
+                backfillQueue.put(reading);
+                accepted.increment();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Reading> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty() || !backfillQueue.isEmpty()) {
+                try {
+                    fill(batch);
+                } catch (InterruptedException e) {
+                    // 종료 요청: 남은 큐를 비운 뒤 루프를 빠져나간다.
+                    running = false;
+                    queue.drainTo(batch);
+                    backfillQueue.drainTo(batch);
+                }
+                if (!batch.isEmpty()) {
+                    writeWithRetry(batch);
+                    batch.clear();
+                }
+            }
+            sink.close();
+        }
+
+        /**
+         * 배치가 가득 차거나 플러시 주기가 지날 때까지 실시간 큐, 백필 큐 순으로 측정값을 모은다.
+         */
+        private void fill(List<Reading> batch) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                backfillQueue.drainTo(batch, batchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0) {
+                    return;
+                }
+                Reading next = queue.poll(Math.min(remaining, POLL_NANOS), TimeUnit.NANOSECONDS);
+                if (next != null) {
+                    batch.add(next);
+                }
+            }
+        }
+
+        private void writeWithRetry(List<Reading> batch) {
+            long backoffMs = 100;
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    sink.write(batch);
+                    written.add(batch.size());
+                    return;
+                } catch (Exception e) {
+                    if (attempt >= maxRetries || !running) {
+                        failedBatches.increment();
+                        log.warn("싱크 저장 실패, 배치 {}건 버림: sink={}", batch.size(), sink.name(), e);
+                        return;
+                    }
+                    log.debug("싱크 저장 재시도 {}/{}: sink={}", attempt + 1, maxRetries, sink.name(), e);
+                    try {
+                        Thread.sleep(backoffMs);
+                    } catch (InterruptedException ie) {
+                        running = false;
+                    }
+                    backoffMs = Math.min(backoffMs * 2, 10_000);
+                }
+            }
+        }
+
+        private void stop() {
+            running = false;
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private SinkStats stats() {
+            return new SinkStats(sink.name(), accepted.sum(), written.sum(), dropped.sum(),
+                    failedBatches.sum(), sink.rejected(), queue.size() + backfillQueue.size());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.trans;
+
+import com.nhnacademy.trans.service.SeriesRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EwmaAnomalyDetectorTest {
+
+    private static final String TOPIC = "data/s/javame/b/seoul/p/office/d/sensor01/e/temperature";
+
+    @TempDir
+    Path tempDir;
+
+    private EwmaAnomalyDetector newDetector(SeriesRegistry registry) {
+        return new EwmaAnomalyDetector(registry, 0.1, 3.0, 10,
+                tempDir.resolve("anomaly.bin").toString(), 0);
+    }
+
+    @Test
+    void testEvaluate_flagsSpikeAfterWarmUp() {
+        SeriesRegistry registry = new SeriesRegistry(16);
+        EwmaAnomalyDetector detector = newDetector(registry);
+        int id = registry.intern(TOPIC, "value");
+
+        for (int i = 0; i < 50; i++) {
+            assertFalse(detector.evaluate(id, 20.0 + (i % 2 == 0 ? 0.5 : -0.5)));
+        }
+
+        assertTrue(detector.evaluate(id, 30.0));
+    }
+
+    @Test
+    void testEvaluate_ignoresSpikeDuringWarmUp() {
+        SeriesRegistry registry = new SeriesRegistry(16);
+        EwmaAnomalyDetector detector = newDetector(registry);
+        int id = registry.intern(TOPIC, "value");
+
+        for (int i = 0; i < 5; i++) {
+            detector.evaluate(id, 20.0 + (i % 2 == 0 ? 0.5 : -0.5));
+        }
+
+        assertFalse(detector.evaluate(id, 30.0));
+    }
+
+    @Test
+    void testSnapshot_restoresStateAcrossRestart() {
+        SeriesRegistry registry = new SeriesRegistry(16);
+        EwmaAnomalyDetector detector = newDetector(registry);
+        int id = registry.intern(TOPIC, "value");
+        for (int i = 0; i < 50; i++) {
+            detector.evaluate(id, 20.0 + (i % 2 == 0 ? 0.5 : -0.5));
+        }
+        detector.snapshot();
+
+        // 새 레지스트리에서는 다른 ID가 부여되어도 토픽/필드로 복원된다.
+        SeriesRegistry restartedRegistry = new SeriesRegistry(16);
+        restartedRegistry.intern("data/s/javame/b/seoul/p/office/d/sensor02/e/humidity", "value");
+        EwmaAnomalyDetector restarted = newDetector(restartedRegistry);
+        restarted.restore();
+
+        assertTrue(restarted.evaluate(restartedRegistry.intern(TOPIC, "value"), 30.0));
+    }
+}
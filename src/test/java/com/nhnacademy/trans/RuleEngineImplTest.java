@@ -0,0 +1,64 @@
+package com.nhnacademy.trans;
+
+import com.nhnacademy.trans.domain.Threshold;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleEngineImplTest {
+
+    private final RuleEngineImpl ruleEngine = new RuleEngineImpl();
+
+    @Test
+    void testEvaluate_boundariesAreInsideRange() {
+        Threshold threshold = new Threshold(10, 90);
+
+        assertFalse(ruleEngine.evaluate(10.0, threshold));
+        assertFalse(ruleEngine.evaluate(90.0, threshold));
+        assertFalse(ruleEngine.evaluate("50", threshold));
+        assertTrue(ruleEngine.evaluate(9.999, threshold));
+        assertTrue(ruleEngine.evaluate(90.001, threshold));
+        assertTrue(ruleEngine.evaluate("95.5", threshold));
+    }
+
+    @Test
+    void testEvaluate_minOnlyAndMaxOnly() {
+        Threshold minOnly = new Threshold(10, Double.NaN);
+        assertTrue(ruleEngine.evaluate(5.0, minOnly));
+        assertFalse(ruleEngine.evaluate(1e9, minOnly));
+
+        Threshold maxOnly = new Threshold(Double.NEGATIVE_INFINITY, 90);
+        assertTrue(ruleEngine.evaluate(95.0, maxOnly));
+        assertFalse(ruleEngine.evaluate(-1e9, maxOnly));
+    }
+
+    @Test
+    void testEvaluate_oneSidedThresholdsWithInfiniteBounds() {
+        Threshold minOnly = new Threshold(10, Double.POSITIVE_INFINITY);
+        assertTrue(ruleEngine.evaluate(9.0, minOnly));
+        assertFalse(ruleEngine.evaluate(10.0, minOnly));
+        assertFalse(ruleEngine.evaluate(Double.MAX_VALUE, minOnly));
+
+        Threshold maxOnly = new Threshold(Double.NEGATIVE_INFINITY, 90);
+        assertTrue(ruleEngine.evaluate(91.0, maxOnly));
+        assertFalse(ruleEngine.evaluate(90.0, maxOnly));
+        assertFalse(ruleEngine.evaluate(-Double.MAX_VALUE, maxOnly));
+
+        Threshold maxOnlyNaN = new Threshold(Double.NaN, 90);
+        assertTrue(ruleEngine.evaluate(91.0, maxOnlyNaN));
+        assertFalse(ruleEngine.evaluate(-1e9, maxOnlyNaN));
+
+        // 반대 부호의 무한대는 "비움"이 아니다: 모든 값이 초과로 판정된다
+        assertTrue(ruleEngine.evaluate(50.0, new Threshold(0, Double.NEGATIVE_INFINITY)));
+        assertTrue(ruleEngine.evaluate(50.0, new Threshold(Double.POSITIVE_INFINITY, 100)));
+    }
+
+    @Test
+    void testEvaluate_nullThresholdAndInvalidValue() {
+        assertFalse(ruleEngine.evaluate("1000", null));
+        assertFalse(ruleEngine.evaluate(1000.0, null));
+        assertFalse(ruleEngine.evaluate("abc", new Threshold(0, 1)));
+        assertFalse(ruleEngine.evaluate((String) null, new Threshold(0, 1)));
+        assertFalse(ruleEngine.evaluate(Double.NaN, new Threshold(0, 1)));
+    }
+}
@@ -0,0 +1,162 @@
+package com.nhnacademy.trans.backtest;
+
+import com.nhnacademy.trans.RuleEngineImpl;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.domain.BacktestReport;
+import com.nhnacademy.trans.domain.BacktestRequest;
+import com.nhnacademy.trans.domain.BacktestRuleResult;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Threshold;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BacktestServiceTest {
+
+    private static final long START = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path dir;
+
+    private static BacktestRequest request() {
+        BacktestRequest request = new BacktestRequest();
+        request.setCompanyDomain("nhnacademy");
+        request.setStart(Instant.ofEpochMilli(START));
+        request.setStop(Instant.ofEpochMilli(START + 2 * HOUR));
+        return request;
+    }
+
+    private static BacktestRuleResult result(BacktestReport report, String ruleId) {
+        return report.getRules().stream().filter(r -> r.getRuleId().equals(ruleId)).findFirst().orElseThrow();
+    }
+
+    @Test
+    void testRun_fileExportThresholdAndCompositeRules() throws Exception {
+        String topic = "server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/%s/e/server";
+        StringBuilder ndjson = new StringBuilder();
+        // host01: 첫 시간 cpu 95 / mem 90, 둘째 시간 cpu 50 / mem 90
+        for (int i = 0; i < 4; i++) {
+            long time = START + i * (HOUR / 2);
+            double cpu = i < 2 ? 95 : 50;
+            ndjson.append(String.format("{\"topic\":\"%s\",\"payload\":{\"time\":%d,\"value\":{\"cpu\":%s,\"mem\":90}}}%n",
+                    topic.formatted("host01"), time, cpu));
+        }
+        // host02: 필드가 줄마다 따로 기록된 아카이브 형식, 시각 역순
+        ndjson.append(String.format("{\"topic\":\"%s\",\"payload\":{\"time\":%d,\"value\":{\"mem\":95}}}%n",
+                topic.formatted("host02"), START + HOUR + 1000));
+        ndjson.append(String.format("{\"topic\":\"%s\",\"payload\":{\"time\":%d,\"value\":{\"cpu\":99}}}%n",
+                topic.formatted("host02"), START + HOUR + 1000));
+        ndjson.append(String.format("{\"topic\":\"%s\",\"payload\":{\"time\":%d,\"value\":{\"cpu\":10}}}%n",
+                topic.formatted("host02"), START + 1000));
+        // 다른 테넌트와 기간 밖 데이터는 제외
+        ndjson.append("{\"topic\":\"server_data/s/other/b/x/p/server_room/d/h/e/server\",\"payload\":{\"time\":"
+                + START + ",\"value\":{\"cpu\":99}}}\n");
+        ndjson.append(String.format("{\"topic\":\"%s\",\"payload\":{\"time\":%d,\"value\":{\"cpu\":99}}}%n",
+                topic.formatted("host01"), START + 3 * HOUR));
+        Files.writeString(dir.resolve("readings-1.ndjson"), ndjson);
+
+        BacktestService service = new BacktestService(
+                new NdjsonBacktestSource(dir.toString(), 16),
+                new RuleEngineImpl(), null, null, 0.05, 3.0, 30, 2);
+        BacktestRequest request = request();
+        request.setThresholds(Map.of("server", new Threshold(0, 92)));
+        request.setCompositeRules(List.of(new CompositeRule("hot", null, "server", null, "cpu > 90 AND mem > 85")));
+        request.setAnomaly(true);
+
+        BacktestReport report = service.run(request);
+
+        assertEquals(2, report.getSeries());
+        assertEquals(6, report.getPoints());
+        assertEquals(HOUR, report.getTimelineMillis());
+
+        BacktestRuleResult threshold = result(report, "threshold:server");
+        // host01 의 cpu 95 두 행 + host02 의 cpu 99/mem 95 한 행
+        assertEquals(3, threshold.getTriggers());
+        assertEquals(2, threshold.getTriggeredSeries());
+        assertArrayEquals(new long[]{2, 1}, threshold.getTimeline());
+        assertEquals(START, threshold.getFirstTrigger());
+        assertEquals(START + HOUR + 1000, threshold.getLastTrigger());
+
+        BacktestRuleResult composite = result(report, "composite:hot");
+        assertEquals(3, composite.getTriggers());
+        assertArrayEquals(new long[]{2, 1}, composite.getTimeline());
+
+        assertEquals(0, result(report, "anomaly:ewma").getTriggers());
+    }
+
+    @Test
+    void testRun_parallelSplitMatchesSequentialCount() throws Exception {
+        int seriesCount = 40;
+        int rows = 10_000;
+        BacktestSource source = (request, consumer) -> {
+            for (int s = 0; s < seriesCount; s++) {
+                BacktestSeries.Builder builder = new BacktestSeries.Builder(
+                        Map.of("companyDomain", "nhnacademy", "measurement", "cpu", "deviceId", "host" + s));
+                // 시계열마다 길이를 다르게 해 분할 지점이 고르지 않도록 한다
+                int length = rows + s * 100;
+                for (int i = 0; i < length; i++) {
+                    builder.add(START + i * 1000L, "value", i % 10);
+                }
+                consumer.accept(builder.build());
+            }
+        };
+        BacktestService service = new BacktestService(source, new RuleEngineImpl(), null, null, 0.05, 3.0, 30, 4);
+        BacktestRequest request = request();
+        request.setThresholds(Map.of("cpu", new Threshold(0, 8)));
+
+        BacktestReport report = service.run(request);
+
+        long points = 0;
+        long expected = 0;
+        for (int s = 0; s < seriesCount; s++) {
+            int length = rows + s * 100;
+            points += length;
+            // 값이 9 인 행만 최댓값 8 을 넘는다
+            expected += length / 10;
+        }
+        assertTrue(points > BacktestTask.SEQUENTIAL_POINTS * 4);
+        assertEquals(points, report.getPoints());
+        BacktestRuleResult threshold = result(report, "threshold:cpu");
+        assertEquals(expected, threshold.getTriggers());
+        assertEquals(seriesCount, threshold.getTriggeredSeries());
+        assertEquals(expected, Arrays.stream(threshold.getTimeline()).sum());
+        service.shutdown();
+    }
+
+    @Test
+    void testRun_currentThresholdsResolvedOncePerDeviceBeforeFork() throws Exception {
+        BacktestSource source = (request, consumer) -> {
+            for (String field : List.of("used", "free")) {
+                BacktestSeries.Builder builder = new BacktestSeries.Builder(
+                        Map.of("companyDomain", "nhnacademy", "measurement", "memory", "deviceId", "host01"));
+                builder.add(START, field, 95);
+                builder.add(START + 1000, field, 50);
+                consumer.accept(builder.build());
+            }
+        };
+        RuleCacheService ruleCacheService = mock(RuleCacheService.class);
+        when(ruleCacheService.getThreshold("memory", "nhnacademy", "host01"))
+                .thenReturn(Optional.of(new Threshold(0, 90)));
+        BacktestService service = new BacktestService(source, new RuleEngineImpl(), ruleCacheService, null,
+                0.05, 3.0, 30, 2);
+        BacktestRequest request = request();
+        request.setCurrentThresholds(true);
+
+        BacktestReport report = service.run(request);
+
+        assertEquals(2, result(report, "threshold:current").getTriggers());
+        verify(ruleCacheService, times(1)).getThreshold("memory", "nhnacademy", "host01");
+        service.shutdown();
+    }
+}
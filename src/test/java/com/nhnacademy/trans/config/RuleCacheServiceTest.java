@@ -12,6 +12,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -121,4 +123,72 @@ class RuleCacheServiceTest {
         // then
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void testGetThreshold_servedFromMemoryAfterReload() {
+        var hashOps = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        Threshold threshold = new Threshold(0, 100);
+        when(ruleAdaptor.findAllSensorData())
+                .thenReturn(ResponseEntity.ok(List.of(new RuleCache("sensor1", "domain1", Map.of("temp", threshold)))));
+        when(ruleAdaptor.findAllServerData()).thenReturn(ResponseEntity.ok(List.of()));
+
+        ruleCacheService.reloadAllRules();
+
+        assertEquals(Optional.of(threshold), ruleCacheService.getThreshold("temp", "domain1", "sensor1"));
+        // 전체 룰이 적재되었으므로 없는 룰도 Redis 를 조회하지 않는다
+        assertTrue(ruleCacheService.getThreshold("humidity", "domain1", "sensor1").isEmpty());
+        verify(hashOps, never()).get(any(), any());
+    }
+
+    @Test
+    void testGetThreshold_cachesRedisResultBeforeReload() {
+        var hashOps = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        when(hashOps.get("rule:domainY:sensorY", "humidity")).thenReturn(null);
+
+        ruleCacheService.getThreshold("humidity", "domainY", "sensorY");
+        ruleCacheService.getThreshold("humidity", "domainY", "sensorY");
+
+        verify(hashOps, times(1)).get("rule:domainY:sensorY", "humidity");
+    }
+
+    @Test
+    void testGetThreshold_redisResultExpires() {
+        var hashOps = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        when(hashOps.get("rule:domainY:sensorY", "humidity")).thenReturn(null);
+        ReflectionTestUtils.setField(ruleCacheService, "reloadIntervalMs", 0L);
+
+        ruleCacheService.getThreshold("humidity", "domainY", "sensorY");
+        ruleCacheService.getThreshold("humidity", "domainY", "sensorY");
+
+        // 없는 룰도 유지 시간이 지나면 다시 조회한다
+        verify(hashOps, times(2)).get("rule:domainY:sensorY", "humidity");
+    }
+
+    @Test
+    void testScheduledReload_appliesChangesAndKeepsCacheOnFailure() {
+        var hashOps = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        Threshold before = new Threshold(0, 100);
+        Threshold after = new Threshold(0, 80);
+        when(ruleAdaptor.findAllSensorData())
+                .thenReturn(ResponseEntity.ok(List.of(new RuleCache("sensor1", "domain1", Map.of("temp", before)))))
+                .thenReturn(ResponseEntity.ok(List.of(
+                        new RuleCache("sensor1", "domain1", Map.of("temp", after)),
+                        new RuleCache("sensor2", "domain1", Map.of("temp", before)))))
+                .thenReturn(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        when(ruleAdaptor.findAllServerData()).thenReturn(ResponseEntity.ok(List.of()));
+
+        ruleCacheService.reloadAllRules();
+        assertTrue(ruleCacheService.getThreshold("temp", "domain1", "sensor2").isEmpty());
+
+        ruleCacheService.scheduledReload();
+        assertEquals(Optional.of(after), ruleCacheService.getThreshold("temp", "domain1", "sensor1"));
+        assertEquals(Optional.of(before), ruleCacheService.getThreshold("temp", "domain1", "sensor2"));
+
+        ruleCacheService.scheduledReload();
+        assertEquals(Optional.of(after), ruleCacheService.getThreshold("temp", "domain1", "sensor1"));
+    }
 }
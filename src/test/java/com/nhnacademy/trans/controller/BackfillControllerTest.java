@@ -0,0 +1,88 @@
+package com.nhnacademy.trans.controller;
+
+import com.nhnacademy.trans.domain.BackfillResult;
+import com.nhnacademy.trans.service.BackfillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillControllerTest {
+
+    private static final String BODY =
+            "{\"topic\":\"data/s/javame/e/temperature\",\"payload\":{\"time\":1000,\"value\":21.5}}\n";
+
+    @Mock
+    private BackfillService backfillService;
+
+    private BackfillController controller;
+
+    /** 서비스가 받은 본문 (압축 해제 후) */
+    private final AtomicReference<String> received = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        controller = new BackfillController(backfillService);
+        when(backfillService.importStream(any(InputStream.class), eq(false))).thenAnswer(invocation -> {
+            InputStream in = invocation.getArgument(0);
+            received.set(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            return new BackfillResult(1, 1, 0, 0, 0, true, null);
+        });
+    }
+
+    @Test
+    void testBackfill_plainBody() throws Exception {
+        ResponseEntity<BackfillResult> response = controller.backfill(request(BODY.getBytes(StandardCharsets.UTF_8), null), false);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(BODY, received.get());
+    }
+
+    @Test
+    void testBackfill_gzipContentEncoding() throws Exception {
+        controller.backfill(request(gzip(BODY), "gzip"), false);
+
+        assertEquals(BODY, received.get());
+    }
+
+    @Test
+    void testBackfill_gzipDetectedByMagicBytesWithoutHeader() throws Exception {
+        controller.backfill(request(gzip(BODY), null), false);
+
+        assertEquals(BODY, received.get());
+    }
+
+    private static MockHttpServletRequest request(byte[] body, String contentEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/backfill");
+        request.setContent(body);
+        if (contentEncoding != null) {
+            request.addHeader("Content-Encoding", contentEncoding);
+        }
+        return request;
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.trans.controller;
+
+import com.nhnacademy.trans.backtest.BacktestService;
+import com.nhnacademy.trans.domain.BacktestRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BacktestControllerTest {
+
+    @Mock
+    private BacktestService backtestService;
+
+    @InjectMocks
+    private BacktestController controller;
+
+    @Test
+    void testBacktest_invalidRequestReturnsErrorDetail() throws Exception {
+        BacktestRequest request = new BacktestRequest();
+        when(backtestService.run(request)).thenThrow(new IllegalArgumentException("companyDomain 이 필요합니다"));
+
+        ResponseEntity<?> response = controller.backtest(request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ProblemDetail body = assertInstanceOf(ProblemDetail.class, response.getBody());
+        assertEquals("companyDomain 이 필요합니다", body.getDetail());
+    }
+}
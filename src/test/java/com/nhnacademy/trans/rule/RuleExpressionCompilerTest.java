@@ -0,0 +1,134 @@
+package com.nhnacademy.trans.rule;
+
+import com.nhnacademy.trans.adaptor.RuleAdaptor;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Reading;
+import com.nhnacademy.trans.service.ReadingParser;
+import com.nhnacademy.trans.service.SeriesRegistry;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RuleExpressionCompilerTest {
+
+    private static final String TOPIC =
+            "server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host01/e/server";
+
+    private final ReadingParser readingParser = new ReadingParser(new SeriesRegistry(16));
+
+    private static CompiledRule compile(String expression) {
+        return RuleExpressionCompiler.compile(new CompositeRule("r1", "nhnacademy", "server", null, expression));
+    }
+
+    @Test
+    void testCompile_andOfComparisons() throws Exception {
+        CompiledRule rule = compile("cpu > 90 AND mem > 85");
+
+        assertArrayEquals(new String[]{"cpu", "mem"}, rule.getFields());
+        assertTrue(rule.test(readingParser.parse(TOPIC, "{\"value\":{\"cpu\":95,\"mem\":90}}")));
+        assertFalse(rule.test(readingParser.parse(TOPIC, "{\"value\":{\"cpu\":95,\"mem\":80}}")));
+        // 필요한 필드가 없으면 충족하지 않음
+        assertFalse(rule.test(readingParser.parse(TOPIC, "{\"value\":{\"cpu\":95}}")));
+    }
+
+    @Test
+    void testCompile_arithmeticAndPrecedence() {
+        CompiledRule dewpoint = compile("temperature - dewpoint < 2");
+        assertTrue(dewpoint.test(new double[]{20.0, 18.5}));
+        assertFalse(dewpoint.test(new double[]{20.0, 10.0}));
+
+        // * 가 + 보다, AND 가 OR 보다 먼저 묶인다
+        CompiledRule precedence = compile("a + b * 2 == 7 || a > 100 && !(b > 0)");
+        assertTrue(precedence.test(new double[]{1, 3}));
+        assertFalse(precedence.test(new double[]{200, 3}));
+        assertTrue(precedence.test(new double[]{200, -1}));
+    }
+
+    @Test
+    void testCompile_parenthesizedArithmeticAndLogic() {
+        CompiledRule rule = compile("(x + y) / 2 >= 10 and not (x < 0 or y < 0)");
+
+        assertArrayEquals(new String[]{"x", "y"}, rule.getFields());
+        assertTrue(rule.test(new double[]{12, 8}));
+        assertFalse(rule.test(new double[]{-1, 30}));
+    }
+
+    @Test
+    void testCompile_syntaxErrors() {
+        RuleExpressionException missingOperator = assertThrows(RuleExpressionException.class, () -> compile("cpu 90"));
+        assertTrue(missingOperator.getMessage().contains("cpu 90"));
+        assertThrows(RuleExpressionException.class, () -> compile("cpu > "));
+        assertThrows(RuleExpressionException.class, () -> compile("(cpu > 90"));
+        assertThrows(RuleExpressionException.class, () -> compile("cpu > 90 AND"));
+        assertThrows(RuleExpressionException.class, () -> compile(""));
+        // 논리식에 산술 연산, 숫자 식을 논리 연산자 피연산자로 쓸 수 없다
+        assertThrows(RuleExpressionException.class, () -> compile("(a > 1) + 2 > 0"));
+        assertThrows(RuleExpressionException.class, () -> compile("a AND b > 1"));
+    }
+
+    @Test
+    void testCompile_deeplyNestedParenthesesParseInLinearTime() {
+        int depth = 200;
+        String expression = "(".repeat(depth) + "x" + ")".repeat(depth) + " > 1 AND "
+                + "(".repeat(depth) + "x < 5" + ")".repeat(depth);
+
+        CompiledRule rule = assertTimeoutPreemptively(java.time.Duration.ofSeconds(2), () -> compile(expression));
+
+        assertArrayEquals(new String[]{"x"}, rule.getFields());
+        assertTrue(rule.test(new double[]{3}));
+        assertFalse(rule.test(new double[]{7}));
+    }
+
+    @Test
+    void testCompiledRule_resolvesFieldsBySeriesIdPerTopic() throws Exception {
+        CompiledRule rule = compile("cpu > 90 AND mem > 85");
+        String otherTopic = TOPIC.replace("host01", "host02");
+
+        // 필드 순서가 달라도, 토픽이 달라도 같은 결과
+        assertTrue(rule.test(readingParser.parse(TOPIC, "{\"value\":{\"mem\":90,\"cpu\":95}}")));
+        assertTrue(rule.test(readingParser.parse(TOPIC, "{\"value\":{\"cpu\":91,\"mem\":86}}")));
+        assertFalse(rule.test(readingParser.parse(otherTopic, "{\"value\":{\"cpu\":91,\"mem\":10}}")));
+        assertTrue(rule.test(readingParser.parse(otherTopic, "{\"value\":{\"cpu\":91,\"mem\":86}}")));
+        // 처음에 없던 필드는 나중 메시지에서 풀린다
+        String thirdTopic = TOPIC.replace("host01", "host03");
+        assertFalse(rule.test(readingParser.parse(thirdTopic, "{\"value\":{\"cpu\":95}}")));
+        assertTrue(rule.test(readingParser.parse(thirdTopic, "{\"value\":{\"cpu\":95,\"mem\":90}}")));
+    }
+
+    @Test
+    void testEvaluate_matchesDomainMeasurementAndDevice() throws Exception {
+        CompositeRuleService service = new CompositeRuleService(null);
+        service.load(List.of(
+                new CompositeRule("all", "nhnacademy", "server", null, "cpu > 90"),
+                new CompositeRule("other-host", "nhnacademy", "server", "host02", "cpu > 90"),
+                new CompositeRule("broken", "nhnacademy", "server", null, "cpu >> 90")));
+
+        List<Reading> readings = readingParser.parse(TOPIC, "{\"value\":{\"cpu\":95}}");
+
+        List<CompositeRule> triggered = service.evaluate(readings);
+        assertEquals(1, triggered.size());
+        assertEquals("all", triggered.get(0).getId());
+        assertEquals(2, service.compiledRules().size());
+    }
+
+    @Test
+    void testReload_missingEndpointKeepsRulesEmpty() {
+        RuleAdaptor ruleAdaptor = mock(RuleAdaptor.class);
+        Request request = Request.create(Request.HttpMethod.GET, "/composite-rules", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        when(ruleAdaptor.findAllCompositeRules())
+                .thenThrow(new FeignException.NotFound("Not Found", request, null, Map.of()));
+        CompositeRuleService service = new CompositeRuleService(ruleAdaptor);
+
+        assertDoesNotThrow(service::reload);
+        assertTrue(service.compiledRules().isEmpty());
+    }
+}
@@ -0,0 +1,142 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.RuleEngine;
+import com.nhnacademy.trans.adaptor.RuleAdaptor;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.domain.BackfillResult;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Threshold;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import com.nhnacademy.trans.sink.SinkDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillServiceTest {
+
+    private static final String TOPIC = "data/s/javame/b/seoul/p/office/d/sensor01/e/temperature";
+
+    @Mock
+    private SinkDispatcher sinkDispatcher;
+
+    @Mock
+    private RuleCacheService ruleCacheService;
+
+    @Mock
+    private RuleEngine ruleEngine;
+
+    @Mock
+    private RuleAdaptor ruleAdaptor;
+
+    private CompositeRuleService compositeRuleService;
+
+    private BackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        compositeRuleService = new CompositeRuleService(ruleAdaptor);
+        backfillService = new BackfillService(sinkDispatcher, ruleCacheService, ruleEngine, compositeRuleService, 2, 16);
+    }
+
+    @Test
+    void testImportStream_batchesReadingsAndSkipsInvalidRecords() throws Exception {
+        String body = String.join("\n",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"time\":1000,\"value\":21.5}}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":\"{\\\"time\\\":2000,\\\"value\\\":22.0}\"}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":\"23.5\"}",
+                "{\"payload\":{\"time\":3000,\"value\":1}}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"time\":4000,\"value\":{\"a\":1,\"b\":2}}}");
+
+        BackfillResult result = backfillService.importStream(stream(body), false);
+
+        assertTrue(result.isCompleted());
+        assertEquals(5, result.getRecords());
+        assertEquals(4, result.getReadings());
+        assertEquals(2, result.getSkipped());
+        verify(sinkDispatcher, times(2)).publishBlocking(anyList());
+        verifyNoInteractions(ruleEngine);
+    }
+
+    @Test
+    void testImportStream_skipsRecordsWithoutExplicitTime() throws Exception {
+        String body = String.join("\n",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":\"23.5\"}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":23.5}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"value\":21.5}}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"time\":\"1000\",\"value\":21.5}}");
+
+        BackfillResult result = backfillService.importStream(stream(body), false);
+
+        assertTrue(result.isCompleted());
+        assertEquals(4, result.getSkipped());
+        assertEquals(0, result.getReadings());
+        verifyNoInteractions(sinkDispatcher);
+    }
+
+    @Test
+    void testImportStream_evaluatesRulesWithThresholdLookupPerTopic() throws Exception {
+        Threshold threshold = new Threshold(0, 22);
+        when(ruleCacheService.getThreshold("temperature", "javame", "sensor01")).thenReturn(Optional.of(threshold));
+        when(ruleEngine.evaluate(anyDouble(), any())).thenReturn(false, true, true);
+        String body = String.join("\n",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"time\":1000,\"value\":21.5}}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"time\":2000,\"value\":25.0}}",
+                "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"time\":3000,\"value\":26.0}}");
+
+        BackfillResult result = backfillService.importStream(stream(body), true);
+
+        assertEquals(2, result.getTriggered());
+        verify(ruleCacheService, times(1)).getThreshold("temperature", "javame", "sensor01");
+    }
+
+    @Test
+    void testImportStream_evaluatesCompositeRulesWithoutTouchingLiveBindings() throws Exception {
+        String topic = "data/s/javame/b/seoul/p/office/d/sensor01/e/env";
+        compositeRuleService.load(List.of(new CompositeRule("hot", "javame", "env", null, "temp > 30 AND humidity > 80")));
+        String body = String.join("\n",
+                "{\"topic\":\"" + topic + "\",\"payload\":{\"time\":1000,\"value\":{\"humidity\":85,\"temp\":35}}}",
+                "{\"topic\":\"" + topic + "\",\"payload\":{\"time\":2000,\"value\":{\"humidity\":50,\"temp\":35}}}");
+
+        BackfillResult result = backfillService.importStream(stream(body), true);
+
+        assertEquals(2, result.getTriggered());
+        verify(ruleEngine, never()).evaluate(anyString(), any());
+
+        // 백필의 임시 레지스트리 ID 가 실시간 룰의 토픽 바인딩에 남지 않아야 한다
+        ReadingParser live = new ReadingParser(new SeriesRegistry(16));
+        live.parse("data/s/javame/b/seoul/p/office/d/sensor02/e/env", "{\"time\":1,\"value\":{\"x\":1}}");
+        assertEquals(1, compositeRuleService.evaluate(
+                live.parse(topic, "{\"time\":3000,\"value\":{\"temp\":31,\"humidity\":81}}")).size());
+    }
+
+    @Test
+    void testImportStream_stopsOnSyntaxErrorAndFlushesParsedReadings() throws Exception {
+        String body = "{\"topic\":\"" + TOPIC + "\",\"payload\":{\"time\":1000,\"value\":21.5}}\n{\"topic\":";
+
+        BackfillResult result = backfillService.importStream(stream(body), false);
+
+        assertFalse(result.isCompleted());
+        assertNotNull(result.getError());
+        assertEquals(1, result.getReadings());
+        verify(sinkDispatcher).publishBlocking(anyList());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.trans.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void testCardinality_withinErrorBound() {
+        HyperLogLog hll = new HyperLogLog(14);
+        for (int i = 0; i < 100_000; i++) {
+            hll.offer("data/s/javame/b/seoul/p/office/d/sensor" + i + "/e/temperature");
+        }
+
+        assertEquals(100_000, hll.cardinality(), 100_000 * 0.03);
+    }
+
+    @Test
+    void testCardinality_ignoresDuplicates() {
+        HyperLogLog hll = new HyperLogLog(10);
+        for (int i = 0; i < 10_000; i++) {
+            hll.offer("series-" + (i % 50));
+        }
+
+        assertEquals(50, hll.cardinality(), 3);
+    }
+
+    @Test
+    void testConstructor_rejectsInvalidPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(2));
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.LatestValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatestValueStoreTest {
+
+    private static final String CPU_TOPIC =
+            "server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host01/e/cpu";
+    private static final String TEMP_TOPIC =
+            "data/s/javame/b/seoul/p/office/d/sensor01/e/temperature";
+
+    private SeriesRegistry seriesRegistry;
+    private LatestValueStore latestValueStore;
+
+    @BeforeEach
+    void setUp() {
+        seriesRegistry = new SeriesRegistry(4);
+        latestValueStore = new LatestValueStore(seriesRegistry);
+    }
+
+    @Test
+    void testRecord_keepsNewestValue() {
+        latestValueStore.record(CPU_TOPIC, "value", 1000L, 10.0, false);
+        latestValueStore.record(CPU_TOPIC, "value", 3000L, 30.0, true);
+        latestValueStore.record(CPU_TOPIC, "value", 2000L, 20.0, false);
+
+        LatestValue latest = latestValueStore.get(seriesRegistry.intern(CPU_TOPIC, "value"));
+
+        assertEquals(30.0, latest.getValue());
+        assertEquals(3000L, latest.getTime());
+        assertTrue(latest.isBreached());
+        assertEquals("server_data", latest.getOrigin());
+        assertEquals("host01", latest.getDeviceId());
+        assertEquals("cpu", latest.getMeasurement());
+    }
+
+    @Test
+    void testFind_filtersByTags() {
+        latestValueStore.record(CPU_TOPIC, "value", 1000L, 10.0, false);
+        latestValueStore.record(TEMP_TOPIC, "value", 1000L, 24.5, false);
+
+        List<LatestValue> all = latestValueStore.find(null, null, null);
+        List<LatestValue> javame = latestValueStore.find("javame", null, null);
+        List<LatestValue> none = latestValueStore.find("nhnacademy", null, "office");
+
+        assertEquals(2, all.size());
+        assertEquals(1, javame.size());
+        assertEquals(24.5, javame.get(0).getValue());
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    void testRecord_ignoresSeriesOverCapacity() {
+        for (int i = 0; i < 5; i++) {
+            latestValueStore.record(CPU_TOPIC, "f" + i, 1000L, i, false);
+        }
+
+        assertEquals(SeriesRegistry.NO_ID, seriesRegistry.intern(CPU_TOPIC, "f4"));
+        assertEquals(4, latestValueStore.find(null, null, null).size());
+    }
+}
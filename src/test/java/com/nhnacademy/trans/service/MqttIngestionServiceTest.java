@@ -0,0 +1,66 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.RuleEngine;
+import com.nhnacademy.trans.config.MqttSubscriptionProperties;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import com.nhnacademy.trans.sink.SinkDispatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class MqttIngestionServiceTest {
+
+    @Mock
+    private RuleEngine ruleEngine;
+
+    @Mock
+    private RuleCacheService ruleCacheService;
+
+    @Mock
+    private CompositeRuleService compositeRuleService;
+
+    @Mock
+    private PayloadDecoder payloadDecoder;
+
+    @Mock
+    private SinkDispatcher sinkDispatcher;
+
+    @Mock
+    private LatestValueStore latestValueStore;
+
+    @Mock
+    private TrafficStatsService trafficStatsService;
+
+    @Test
+    void testInit_rejectsPartiallyOverlappingFilters() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service("data/+/temperature", "data/sensor01/#").init());
+        assertTrue(e.getMessage().contains("data/+/temperature"));
+    }
+
+    @Test
+    void testInit_acceptsCoveredAndDisjointFilters() {
+        // 두 패턴을 모두 포함하는 패턴이 있으면 포함된 패턴은 구독하지 않으므로 허용된다
+        assertDoesNotThrow(() -> service("data/+/temperature", "data/sensor01/#", "data/#").init());
+        assertDoesNotThrow(() -> service("+/s/+/b/+/p/server_room/#", "sensor_data/s/+/b/+/p/greenhouse/#").init());
+    }
+
+    private MqttIngestionService service(String... filters) {
+        MqttSubscriptionProperties properties = new MqttSubscriptionProperties();
+        properties.setSubscriptions(Arrays.stream(filters).map(filter -> {
+            MqttSubscriptionProperties.Subscription subscription = new MqttSubscriptionProperties.Subscription();
+            subscription.setFilter(filter);
+            return subscription;
+        }).toList());
+        return new MqttIngestionService(ruleEngine, ruleCacheService, compositeRuleService, payloadDecoder,
+                sinkDispatcher, latestValueStore, trafficStatsService, Optional.empty(), properties);
+    }
+}
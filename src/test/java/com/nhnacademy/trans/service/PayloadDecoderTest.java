@@ -0,0 +1,142 @@
+package com.nhnacademy.trans.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.nhnacademy.trans.config.PackedPayloadProperties;
+import com.nhnacademy.trans.domain.PayloadCompression;
+import com.nhnacademy.trans.domain.PayloadFormat;
+import com.nhnacademy.trans.domain.Reading;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadDecoderTest {
+
+    private static final String TOPIC =
+            "server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host01/e/memory";
+
+    private final PayloadDecoder payloadDecoder = newDecoder();
+
+    private static PayloadDecoder newDecoder() {
+        PackedPayloadProperties properties = new PackedPayloadProperties();
+        properties.setFields(Map.of("memory", List.of("used", "free")));
+        return new PayloadDecoder(new ReadingParser(new SeriesRegistry(64)), properties, 1024);
+    }
+
+    @Test
+    void testDecode_gzipCompressedJson() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("{\"time\":1000,\"value\":{\"used\":70.5}}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<Reading> readings = payloadDecoder.decode(TOPIC, ByteBuffer.wrap(compressed.toByteArray()), null,
+                PayloadCompression.GZIP);
+
+        assertEquals(1, readings.size());
+        assertEquals("used", readings.get(0).getField());
+        assertEquals(70.5, readings.get(0).getValue());
+    }
+
+    @Test
+    void testDecode_rejectsPayloadInflatingPastLimit() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(new byte[1025]);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> payloadDecoder.decode(TOPIC,
+                ByteBuffer.wrap(compressed.toByteArray()), null, PayloadCompression.GZIP));
+        assertTrue(e.getMessage().contains("1024"));
+    }
+
+    @Test
+    void testDecode_jsonBytes() throws Exception {
+        ByteBuffer payload = ByteBuffer.wrap(
+                "{\"time\":1000,\"value\":{\"used\":70.5,\"free\":\"29.5\"}}".getBytes(StandardCharsets.UTF_8));
+
+        List<Reading> readings = payloadDecoder.decode(TOPIC, payload, null);
+
+        assertEquals(2, readings.size());
+        assertEquals("free", readings.get(1).getField());
+        assertEquals(29.5, readings.get(1).getValue());
+        assertEquals(1000L, readings.get(1).getTime());
+        assertEquals(0, payload.position());
+    }
+
+    @Test
+    void testDecode_bareNumber() throws Exception {
+        List<Reading> readings = payloadDecoder.decode(TOPIC,
+                ByteBuffer.wrap("42.5".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertEquals(1, readings.size());
+        assertEquals("value", readings.get(0).getField());
+        assertEquals(42.5, readings.get(0).getValue());
+    }
+
+    @Test
+    void testDecode_cborDetectedByFirstByte() throws Exception {
+        byte[] cbor = encode(new CBORFactory(), 2000L, 55.5);
+
+        List<Reading> readings = payloadDecoder.decode(TOPIC, ByteBuffer.wrap(cbor), null);
+
+        assertEquals(1, readings.size());
+        assertEquals(2000L, readings.get(0).getTime());
+        assertEquals(55.5, readings.get(0).getValue());
+    }
+
+    @Test
+    void testDecode_msgpackWithHeaderByte() throws Exception {
+        byte[] msgpack = encode(new MessagePackFactory(), 3000L, 12.25);
+        ByteBuffer payload = ByteBuffer.allocate(msgpack.length + 1).put((byte) 0x03).put(msgpack).flip();
+
+        List<Reading> readings = payloadDecoder.decode(TOPIC, payload, null);
+
+        assertEquals(3000L, readings.get(0).getTime());
+        assertEquals(12.25, readings.get(0).getValue());
+    }
+
+    @Test
+    void testDecode_packedWithTopicSuffixUsesConfiguredFieldNames() throws Exception {
+        ByteBuffer payload = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(4000L).putDouble(70.5).putDouble(29.5).flip();
+
+        List<Reading> readings = payloadDecoder.decode(TOPIC, payload,
+                PayloadFormat.fromTopicSuffix(TOPIC + "/packed"));
+
+        assertEquals(2, readings.size());
+        assertEquals("used", readings.get(0).getField());
+        assertEquals(70.5, readings.get(0).getValue());
+        assertEquals("free", readings.get(1).getField());
+        assertEquals(4000L, readings.get(1).getTime());
+    }
+
+    @Test
+    void testDecode_packedRejectsTruncatedPayload() {
+        ByteBuffer payload = ByteBuffer.allocate(13).put((byte) 0x01).putLong(1L).putInt(0).flip();
+
+        assertThrows(IOException.class, () -> payloadDecoder.decode(TOPIC, payload, null));
+    }
+
+    private static byte[] encode(JsonFactory factory, long time, double value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = factory.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeNumberField("time", time);
+            gen.writeNumberField("value", value);
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+}
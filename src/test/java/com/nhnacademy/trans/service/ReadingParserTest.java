@@ -0,0 +1,41 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.Reading;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadingParserTest {
+
+    private static final String TOPIC =
+            "server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host01/e/memory";
+
+    private final SeriesRegistry seriesRegistry = new SeriesRegistry(16);
+    private final ReadingParser readingParser = new ReadingParser(seriesRegistry);
+
+    @Test
+    void testParse_objectValueSplitsFields() throws Exception {
+        List<Reading> readings = readingParser.parse(TOPIC,
+                "{\"time\":1700000000000,\"value\":{\"used\":70.5,\"free\":29.5}}");
+
+        assertEquals(2, readings.size());
+        assertEquals("used", readings.get(0).getField());
+        assertEquals(70.5, readings.get(0).getValue());
+        assertEquals(1700000000000L, readings.get(1).getTime());
+        assertEquals("memory", readings.get(1).getMeasurement());
+        assertEquals("server_data", readings.get(1).getTags().get("origin"));
+        assertNotEquals(readings.get(0).getSeriesId(), readings.get(1).getSeriesId());
+    }
+
+    @Test
+    void testParse_bareNumberUsesValueField() throws Exception {
+        List<Reading> readings = readingParser.parse(TOPIC, " 42.5 ");
+
+        assertEquals(1, readings.size());
+        assertEquals(ReadingParser.VALUE_FIELD, readings.get(0).getField());
+        assertEquals(42.5, readings.get(0).getValue());
+        assertEquals(seriesRegistry.intern(TOPIC, "value"), readings.get(0).getSeriesId());
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.trans.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeriesRegistryTest {
+
+    private static final String TOPIC = "server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host%d/e/cpu";
+
+    @Test
+    void testIntern_overCapacityTopicsAndFieldsAreNotCached() {
+        SeriesRegistry registry = new SeriesRegistry(4);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, registry.intern(TOPIC.formatted(i), "value"));
+        }
+
+        // 용량이 찬 뒤의 신규 시계열: 기존 토픽의 새 필드, 새 토픽 모두 NO_ID 이고 등록되지 않는다
+        assertEquals(SeriesRegistry.NO_ID, registry.intern(TOPIC.formatted(0), "user"));
+        for (int i = 4; i < 1000; i++) {
+            assertEquals(SeriesRegistry.NO_ID, registry.intern(TOPIC.formatted(i), "value"));
+            assertEquals("host" + i, registry.tags(TOPIC.formatted(i)).get("deviceId"));
+        }
+        assertEquals(4, registry.topicCount());
+        assertEquals(4, registry.size());
+
+        // 기존 시계열은 계속 같은 ID
+        assertEquals(2, registry.intern(TOPIC.formatted(2), "value"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.HeavyHitter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceSavingTopKTest {
+
+    @Test
+    void testTop_findsHeavyHittersWithinFixedCapacity() {
+        SpaceSavingTopK topK = new SpaceSavingTopK(10);
+        for (int i = 0; i < 10_000; i++) {
+            topK.offer("noise-" + i);
+            if (i % 2 == 0) {
+                topK.offer("hot");
+            }
+            if (i % 5 == 0) {
+                topK.offer("warm");
+            }
+        }
+
+        List<HeavyHitter> top = topK.top(2, 10);
+
+        assertEquals("hot", top.get(0).getKey());
+        assertEquals("warm", top.get(1).getKey());
+        assertTrue(top.get(0).getCount() - top.get(0).getError() <= 5_000);
+        assertTrue(top.get(0).getCount() >= 5_000);
+        assertEquals(top.get(0).getCount() / 10.0, top.get(0).getRatePerSecond());
+    }
+
+    @Test
+    void testTop_exactWhenUnderCapacity() {
+        SpaceSavingTopK topK = new SpaceSavingTopK(10);
+        topK.offer("a");
+        topK.offer("b");
+        topK.offer("b");
+
+        List<HeavyHitter> top = topK.top(10, 1);
+
+        assertEquals(2, top.size());
+        assertEquals("b", top.get(0).getKey());
+        assertEquals(2, top.get(0).getCount());
+        assertEquals(0, top.get(0).getError());
+    }
+}
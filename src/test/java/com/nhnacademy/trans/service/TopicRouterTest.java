@@ -0,0 +1,89 @@
+package com.nhnacademy.trans.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopicRouterTest {
+
+    private static TopicRouter<String> router(String... filters) {
+        return new TopicRouter<>(List.of(filters), List.of(filters), 1000);
+    }
+
+    @Test
+    void testRoute_wildcards() {
+        TopicRouter<String> router = router("+/s/+/b/+/p/server_room/#", "sensor_data/s/+/b/+/p/+/d/+/e/+", "#");
+
+        assertEquals(Optional.of("+/s/+/b/+/p/server_room/#"),
+                router.route("server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host01/e/cpu"));
+        assertEquals(Optional.of("sensor_data/s/+/b/+/p/+/d/+/e/+"),
+                router.route("sensor_data/s/nhnacademy/b/gyeongnam/p/lobby/d/s1/e/temperature"));
+        // 레벨 수가 다르면 '+' 필터와 일치하지 않고 '#' 으로 간다
+        assertEquals(Optional.of("#"), router.route("sensor_data/s/nhnacademy/b/gyeongnam/p/lobby/d/s1/e/temperature/cbor"));
+        // '$' 토픽은 첫 레벨 와일드카드와 일치하지 않음
+        assertEquals(Optional.empty(), router.route("$SYS/broker/uptime"));
+    }
+
+    @Test
+    void testRoute_firstDeclaredWinsAndParentLevelMatchesHash() {
+        TopicRouter<String> router = router("a/b/#", "a/+/c", "a/b/c");
+
+        assertEquals(Optional.of("a/b/#"), router.route("a/b/c"));
+        assertEquals(Optional.of("a/b/#"), router.route("a/b"));
+        assertEquals(Optional.of("a/+/c"), router.route("a/x/c"));
+        assertEquals(Optional.empty(), router.route("a/x/d"));
+        assertEquals(4, router.cachedTopics());
+    }
+
+    @Test
+    void testRoute_hundredsOfPatternsAndInvalidFilters() {
+        List<String> filters = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            filters.add("+/s/+/b/+/p/place" + i + "/#");
+        }
+        TopicRouter<String> router = new TopicRouter<>(filters, filters, 2);
+
+        assertEquals(Optional.of("+/s/+/b/+/p/place321/#"), router.route("server_data/s/x/b/y/p/place321/d/h/e/cpu"));
+        assertEquals(Optional.of("+/s/+/b/+/p/place7/#"), router.route("sensor_data/s/x/b/y/p/place7/e/temperature"));
+        // 캐시가 가득 차면 비우고 다시 채운다
+        router.route("sensor_data/s/x/b/y/p/place8/e/temperature");
+        assertEquals(1, router.cachedTopics());
+
+        assertThrows(IllegalArgumentException.class, () -> router("a/#/b"));
+        assertThrows(IllegalArgumentException.class, () -> router("a/b+"));
+        assertThrows(IllegalArgumentException.class, () -> router(""));
+    }
+
+    @Test
+    void testCovers_wildcardsAndDollarTopics() {
+        assertTrue(TopicRouter.covers("#", "sensor_data/s/+/b/+/p/+/#"));
+        assertTrue(TopicRouter.covers("+/s/+/#", "sensor_data/s/nhnacademy/b/+"));
+        assertTrue(TopicRouter.covers("a/#", "a"));
+        assertTrue(TopicRouter.covers("a/+", "a/+"));
+        assertFalse(TopicRouter.covers("a/+", "a/#"));
+        assertFalse(TopicRouter.covers("a/b", "a/+"));
+        assertFalse(TopicRouter.covers("a/+", "a/b/c"));
+        assertFalse(TopicRouter.covers("#", "$SYS/#"));
+        assertFalse(TopicRouter.covers("+/broker", "$SYS/broker"));
+    }
+
+    @Test
+    void testUncovered_dropsCoveredAndDuplicateFilters() {
+        List<String> filters = List.of(
+                "sensor_data/s/+/b/+/p/lobby/#",   // 0: 2 에 포함
+                "server_data/s/+/b/+/p/+/d/+/e/+",  // 1: 독립
+                "sensor_data/#",                    // 2
+                "sensor_data/#",                    // 3: 2 와 같음
+                "a/+/c",                            // 4: 5 와 일부만 겹침
+                "a/b/+");                           // 5
+
+        assertEquals(List.of(1, 2, 4, 5), TopicRouter.uncovered(filters));
+        assertTrue(TopicRouter.overlaps("a/+/c", "a/b/+"));
+        assertFalse(TopicRouter.overlaps("a/+/c", "a/b/d"));
+        assertFalse(TopicRouter.overlaps("sensor_data/#", "server_data/s/+/b/+/p/+/d/+/e/+"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.domain.TrafficReport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficStatsServiceTest {
+
+    private static final String TOPIC = "server_data/s/%s/b/gyeongnam/p/server_room/d/host%d/e/cpu";
+
+    @Test
+    void testReport_mergesStripesAndRotatesAfterIdle() {
+        TrafficStatsService service = new TrafficStatsService(10, 60, 100);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            service.record(TOPIC.formatted("nhnacademy", i % 20), start + i);
+            if (i % 4 == 0) {
+                service.record(TOPIC.formatted("javame", 0), start + i);
+            }
+        }
+
+        // 다음 구간에서 보면 직전(완료된) 구간의 통계
+        TrafficReport report = service.report(3, start + 60_000);
+        assertEquals(125, report.getTotalMessages());
+        assertEquals(3, report.getTopSeries().size());
+        assertEquals(TOPIC.formatted("javame", 0), report.getTopSeries().get(0).getKey());
+        assertEquals(25, report.getTopSeries().get(0).getCount());
+        assertEquals("nhnacademy", report.getTopTenants().get(0).getKey());
+        assertEquals(100, report.getTopTenants().get(0).getCount());
+        assertEquals(2, report.getDistinctSeriesByTenant().size());
+
+        // 유휴 기간이 지난 뒤에는 오래된 구간이 아니라 빈 직전 구간
+        TrafficReport idle = service.report(3, start + 10 * 60_000);
+        assertEquals(0, idle.getTotalMessages());
+        assertTrue(idle.getTopSeries().isEmpty());
+        assertEquals(21, idle.getDistinctSeries());
+    }
+
+    @Test
+    void testReport_foldsTenantsBeyondLimitIntoOther() {
+        TrafficStatsService service = new TrafficStatsService(10, 60, 2);
+        long start = System.currentTimeMillis();
+        for (int tenant = 0; tenant < 5; tenant++) {
+            for (int host = 0; host < 3; host++) {
+                service.record(TOPIC.formatted("tenant" + tenant, host), start);
+            }
+        }
+
+        TrafficReport report = service.report(10, start);
+        assertEquals(3, report.getDistinctSeriesByTenant().size());
+        assertEquals(3, report.getDistinctSeriesByTenant().get("tenant0"));
+        assertEquals(3, report.getDistinctSeriesByTenant().get("tenant1"));
+        assertEquals(9, report.getDistinctSeriesByTenant().get(TrafficStatsService.OTHER_TENANTS));
+        assertEquals(15, report.getDistinctSeries());
+        // 상위 K 집계는 한도와 관계없이 모든 테넌트를 센다
+        assertEquals(5, report.getTopTenants().size());
+    }
+
+    @Test
+    void testTagValue_withoutParsingWholeTopic() {
+        assertEquals("nhnacademy", TopicParser.tagValue(TOPIC.formatted("nhnacademy", 1), "s"));
+        assertEquals("cpu", TopicParser.tagValue(TOPIC.formatted("nhnacademy", 1), "e"));
+        assertNull(TopicParser.tagValue("server_data/b/x", "s"));
+        assertNull(TopicParser.tagValue("server_data", "s"));
+    }
+}
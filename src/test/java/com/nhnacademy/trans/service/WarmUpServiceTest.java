@@ -0,0 +1,83 @@
+package com.nhnacademy.trans.service;
+
+import com.nhnacademy.trans.AnomalyDetector;
+import com.nhnacademy.trans.RuleEngineImpl;
+import com.nhnacademy.trans.adaptor.RuleAdaptor;
+import com.nhnacademy.trans.config.MqttSubscriptionProperties;
+import com.nhnacademy.trans.config.PackedPayloadProperties;
+import com.nhnacademy.trans.config.RuleCacheService;
+import com.nhnacademy.trans.domain.CompositeRule;
+import com.nhnacademy.trans.domain.Threshold;
+import com.nhnacademy.trans.rule.CompositeRuleService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpServiceTest {
+
+    @Mock
+    private RuleCacheService ruleCacheService;
+
+    @Mock
+    private RuleAdaptor ruleAdaptor;
+
+    @Mock
+    private AnomalyDetector anomalyDetector;
+
+    @Test
+    void testRun_processesBundledCorpusThroughIngestionPath() {
+        when(ruleCacheService.getThreshold(anyString(), anyString(), anyString()))
+                .thenReturn(Optional.of(new Threshold(0, 100)));
+        WarmUpService warmUpService = warmUpService(true, "classpath:warmup/corpus.ndjson");
+
+        // 코퍼스 8건 x 2회, 객체 값 2건은 필드 2개씩
+        assertEquals(20, warmUpService.run());
+        // 룰 조회는 실제 서비스를 거치고, 실제 이상치 탐지기 상태는 건드리지 않는다
+        verify(ruleCacheService, atLeastOnce()).getThreshold("cpu", "nhnacademy", "host01");
+        verifyNoInteractions(anomalyDetector);
+    }
+
+    @Test
+    void testRun_leavesLiveCompositeRuleBindingsUntouched() throws Exception {
+        String topic = "server_data/s/nhnacademy/b/gyeongnam/p/server_room/d/host01/e/memory";
+        CompositeRuleService compositeRuleService = new CompositeRuleService(ruleAdaptor);
+        compositeRuleService.load(List.of(new CompositeRule("mem", "nhnacademy", "memory", null, "used > 70 AND free < 30")));
+        new WarmUpService(new RuleEngineImpl(), ruleCacheService, compositeRuleService,
+                new MqttSubscriptionProperties(), Optional.empty(), new PackedPayloadProperties(),
+                new DefaultResourceLoader(), true, "classpath:warmup/corpus.ndjson", 16).run();
+
+        // 실시간 레지스트리는 워밍업 레지스트리와 시계열 ID 가 다르다
+        SeriesRegistry live = new SeriesRegistry(1024);
+        for (int i = 0; i < 100; i++) {
+            live.intern("other/s/x/d/d" + i + "/e/m", "value");
+        }
+        ReadingParser parser = new ReadingParser(live);
+        assertEquals(1, compositeRuleService.evaluate(
+                parser.parse(topic, "{\"time\":1,\"value\":{\"used\":80,\"free\":20}}")).size());
+        assertTrue(compositeRuleService.evaluate(
+                parser.parse(topic, "{\"time\":2,\"value\":{\"used\":50,\"free\":50}}")).isEmpty());
+    }
+
+    @Test
+    void testRun_skipsWhenDisabledOrCorpusMissing() {
+        assertEquals(0, warmUpService(false, "classpath:warmup/corpus.ndjson").run());
+        assertEquals(0, warmUpService(true, "classpath:warmup/none.ndjson").run());
+        verifyNoInteractions(ruleCacheService);
+    }
+
+    private WarmUpService warmUpService(boolean enabled, String corpus) {
+        return new WarmUpService(new RuleEngineImpl(), ruleCacheService, new CompositeRuleService(ruleAdaptor),
+                new MqttSubscriptionProperties(), Optional.of(anomalyDetector), new PackedPayloadProperties(),
+                new DefaultResourceLoader(), enabled, corpus, 16);
+    }
+}
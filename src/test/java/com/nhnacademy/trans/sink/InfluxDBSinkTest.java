@@ -0,0 +1,106 @@
+package com.nhnacademy.trans.sink;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.exceptions.InfluxException;
+import com.nhnacademy.trans.config.InfluxRoutingProperties;
+import com.nhnacademy.trans.config.MqttSubscriptionProperties;
+import com.nhnacademy.trans.domain.Reading;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InfluxDBSinkTest {
+
+    @Mock
+    private InfluxDBClient influxDBClient;
+
+    @Mock
+    private WriteApiBlocking writeApi;
+
+    private InfluxDBSink sink;
+
+    @BeforeEach
+    void setUp() {
+        InfluxRoutingProperties.Route route = new InfluxRoutingProperties.Route();
+        route.setCompanyDomain("nhnacademy");
+        route.setOrigin("server_data");
+        route.setBucket("nhnacademy_server");
+
+        InfluxRoutingProperties routing = new InfluxRoutingProperties();
+        routing.setRoutes(List.of(route));
+
+        when(influxDBClient.getWriteApiBlocking()).thenReturn(writeApi);
+        MqttSubscriptionProperties.Subscription raw = new MqttSubscriptionProperties.Subscription();
+        raw.setFilter("sensor_data/#");
+        raw.setBucket("raw");
+        MqttSubscriptionProperties subscriptions = new MqttSubscriptionProperties();
+        subscriptions.setSubscriptions(List.of(raw));
+
+        sink = new InfluxDBSink(influxDBClient, routing, subscriptions, "data", "javame");
+    }
+
+    @Test
+    void testWrite_routesByCompanyDomainAndOrigin() {
+        Reading server = reading("nhnacademy", "server_data");
+        Reading sensor = reading("nhnacademy", "sensor_data");
+        Reading other = reading("javame", "server_data");
+
+        sink.write(List.of(server, sensor, other));
+        sink.write(List.of(server));
+
+        verify(writeApi, times(2)).writePoints(eq("nhnacademy_server"), eq("javame"), anyList());
+        verify(writeApi).writePoints(eq("data"), eq("javame"), argThat(points -> points.size() == 2));
+    }
+
+    @Test
+    void testWrite_onlyConfiguredBucketOverridesRouting() {
+        sink.write(List.of(
+                reading("javame", "sensor_data").withBucket("raw"),
+                reading("javame", "sensor_data").withBucket("anything")));
+
+        verify(writeApi).writePoints(eq("raw"), eq("javame"), argThat(points -> points.size() == 1));
+        verify(writeApi).writePoints(eq("data"), eq("javame"), argThat(points -> points.size() == 1));
+    }
+
+    @Test
+    void testWrite_skipsReadingsWithoutMeasurementAndWritesTheRest() {
+        Reading noMeasurement = new Reading(0, "data/s/javame/d/sensor01",
+                Map.of("companyDomain", "javame", "origin", "sensor_data"), "value", 1000L, 1.0);
+
+        sink.write(List.of(reading("javame", "sensor_data"), noMeasurement, reading("javame", "server_data")));
+
+        verify(writeApi).writePoints(eq("data"), eq("javame"), argThat(points -> points.size() == 2));
+        assertEquals(1, sink.rejected());
+    }
+
+    @Test
+    void testWrite_propagatesWriteFailureAfterTryingEveryRoute() {
+        lenient().doThrow(new InfluxException("unavailable"))
+                .when(writeApi).writePoints(eq("nhnacademy_server"), eq("javame"), anyList());
+
+        assertThrows(InfluxException.class, () -> sink.write(List.of(
+                reading("nhnacademy", "server_data"), reading("javame", "server_data"))));
+
+        verify(writeApi).writePoints(eq("data"), eq("javame"), argThat(points -> points.size() == 1));
+    }
+
+    private static Reading reading(String companyDomain, String origin) {
+        return new Reading(0, "topic",
+                Map.of("companyDomain", companyDomain, "origin", origin, "measurement", "cpu"),
+                "value", 1000L, 50.0);
+    }
+}
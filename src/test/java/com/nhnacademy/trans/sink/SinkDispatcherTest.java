@@ -0,0 +1,99 @@
+package com.nhnacademy.trans.sink;
+
+import com.nhnacademy.trans.domain.Reading;
+import com.nhnacademy.trans.domain.SinkStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SinkDispatcherTest {
+
+    private static final Reading READING = new Reading(0, "data/s/javame/e/temperature",
+            Map.of("measurement", "temperature"), "value", 1000L, 21.5);
+
+    @Test
+    void testPublish_blockedSinkDoesNotStallOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ReadingSink blocked = new ReadingSink() {
+            @Override
+            public String name() {
+                return "blocked";
+            }
+
+            @Override
+            public void write(List<Reading> batch) throws InterruptedException {
+                release.await();
+            }
+        };
+        NoopSink noop = new NoopSink();
+        SinkDispatcher dispatcher = new SinkDispatcher(List.of(blocked, noop), 2, 2, 1, 10, 0);
+
+        for (int i = 0; i < 10; i++) {
+            long expected = i + 1;
+            dispatcher.publish(List.of(READING));
+            waitUntil(() -> noop.count() == expected);
+        }
+
+        SinkStats blockedStats = dispatcher.stats().get(0);
+        assertEquals(10, noop.count());
+        assertTrue(blockedStats.getDropped() > 0);
+
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void testPublish_failingSinkRetriesThenDropsBatch() throws Exception {
+        ReadingSink failing = new ReadingSink() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public void write(List<Reading> batch) {
+                throw new IllegalStateException("down");
+            }
+        };
+        SinkDispatcher dispatcher = new SinkDispatcher(List.of(failing), 10, 10, 10, 10, 1);
+
+        dispatcher.publish(List.of(READING, READING));
+        waitUntil(() -> dispatcher.stats().get(0).getFailedBatches() == 1);
+
+        SinkStats stats = dispatcher.stats().get(0);
+        assertEquals(2, stats.getAccepted());
+        assertEquals(0, stats.getWritten());
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void testPublishBlocking_waitsForCapacityInsteadOfDropping() throws Exception {
+        NoopSink noop = new NoopSink();
+        SinkDispatcher dispatcher = new SinkDispatcher(List.of(noop), 2, 2, 2, 10, 0);
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.publishBlocking(List.of(READING, READING));
+        }
+        waitUntil(() -> noop.count() == 200);
+
+        SinkStats stats = dispatcher.stats().get(0);
+        assertEquals(200, stats.getWritten());
+        assertEquals(0, stats.getDropped());
+        dispatcher.shutdown();
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("5초 안에 조건이 충족되지 않았습니다");
+            }
+            Thread.sleep(10);
+        }
+    }
+}